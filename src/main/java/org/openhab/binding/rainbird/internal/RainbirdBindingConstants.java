@@ -56,6 +56,10 @@ public final class RainbirdBindingConstants {
     public static final String CONFIG_PORT = "port";
     public static final String CONFIG_PASSWORD = "password";
     public static final String CONFIG_REFRESH = "refresh";
+    public static final String CONFIG_NETWORK_REFRESH = "networkRefresh";
+    public static final String CONFIG_SCHEDULE_REFRESH = "scheduleRefresh";
+    public static final String CONFIG_COUNTDOWN_INTERVAL = "countdownInterval";
+    public static final String CONFIG_REPUBLISH_INTERVAL = "republishInterval";
     public static final String CONFIG_TIMEOUT = "timeout";
 
     public static final String CONFIG_DEVICE_ID = "deviceId";
@@ -69,4 +73,6 @@ public final class RainbirdBindingConstants {
     public static final String PROPERTY_CUSTOM_STATION_NAME = "controller.customStationName";
     public static final String PROPERTY_ZIP_CODE = "controller.zipCode";
     public static final String PROPERTY_COUNTRY = "controller.country";
+    public static final String PROPERTY_STARTUP_REQUESTS = "startup.requests";
+    public static final String PROPERTY_STARTUP_MILLIS = "startup.millis";
 }
@@ -4,15 +4,20 @@ import static org.openhab.binding.rainbird.internal.RainbirdBindingConstants.*;
 
 import java.util.Set;
 
+import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.rainbird.internal.handler.RainbirdBridgeHandler;
+import org.openhab.binding.rainbird.internal.handler.RainbirdStartupCoordinator;
 import org.openhab.binding.rainbird.internal.handler.RainbirdZoneHandler;
+import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * Erstellt die passenden Handler für Bridge/Things.
@@ -22,6 +27,16 @@ public class RainbirdHandlerFactory extends BaseThingHandlerFactory {
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES = Set.of(BRIDGE_TYPE_UID, ZONE_TYPE_UID);
 
+    /** Verteilt die ersten Polls aller Bridges, damit ein Neustart nicht alle Controller gleichzeitig abfragt. */
+    private final RainbirdStartupCoordinator startupCoordinator = new RainbirdStartupCoordinator();
+    /** Gemeinsamer Client von openHAB; er verwaltet Keep-alive-Verbindungen, Namensauflösung und Threads. */
+    private final HttpClient httpClient;
+
+    @Activate
+    public RainbirdHandlerFactory(@Reference HttpClientFactory httpClientFactory) {
+        this.httpClient = httpClientFactory.getCommonHttpClient();
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES.contains(thingTypeUID);
@@ -32,7 +47,7 @@ public class RainbirdHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID type = thing.getThingTypeUID();
 
         if (BRIDGE_TYPE_UID.equals(type)) {
-            return new RainbirdBridgeHandler((Bridge) thing);
+            return new RainbirdBridgeHandler((Bridge) thing, httpClient, startupCoordinator);
         } else if (ZONE_TYPE_UID.equals(type)) {
             return new RainbirdZoneHandler(thing);
         }
@@ -28,6 +28,23 @@ public class RainbirdConfiguration {
      */
     public int timeoutMillis = 5000;
 
+    /**
+     * Whether request timeouts follow measured round-trip times below {@link #timeoutMillis}. When disabled every
+     * request waits the full configured timeout.
+     */
+    public boolean adaptiveTimeout = true;
+
+    /**
+     * Whether repeated transport failures open a circuit breaker that rejects requests until a probe succeeds.
+     */
+    public boolean circuitBreaker = true;
+
+    /**
+     * JSON-RPC method admitted as probe while the circuit breaker is open. Blank admits the first request after the
+     * backoff, for endpoints that never call the default method.
+     */
+    public String probeMethod = "getNetworkStatus";
+
     /**
      * Selected controller model.
      */
@@ -4,18 +4,26 @@ import static org.openhab.binding.rainbird.internal.RainbirdBindingConstants.*;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.rainbird.internal.config.RainbirdConfiguration;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.CombinedState;
@@ -23,14 +31,19 @@ import org.openhab.binding.rainbird.internal.net.RainbirdClient.ControllerStatus
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.ControllerFirmwareVersion;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.ModelAndVersion;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.NetworkStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.PollTier;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.PollingResult;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.ProgramStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ScheduleSnapshot;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.WifiStatus;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.ZoneStatus;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.WeatherStatus;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.ZipCodeInfo;
+import org.openhab.binding.rainbird.internal.net.RainbirdCircuitOpenException;
 import org.openhab.binding.rainbird.internal.net.RainbirdCommandResult;
+import org.openhab.binding.rainbird.internal.net.RainbirdFutures;
 import org.openhab.binding.rainbird.internal.util.ConfigurationUtils;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
@@ -50,6 +63,8 @@ import org.openhab.core.thing.binding.BaseBridgeHandler;
 import org.openhab.core.thing.binding.builder.ChannelBuilder;
 import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.types.Command;
+import org.openhab.core.types.RefreshType;
+import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,25 +75,79 @@ import org.slf4j.LoggerFactory;
 public class RainbirdBridgeHandler extends BaseBridgeHandler {
 
     private static final int DEFAULT_REFRESH_SECONDS = 30;
+    private static final int DEFAULT_NETWORK_REFRESH_SECONDS = 300;
+    private static final int DEFAULT_SCHEDULE_REFRESH_SECONDS = 3600;
+    private static final int DEFAULT_COUNTDOWN_SECONDS = 5;
     private static final int DEFAULT_MANUAL_DURATION_MINUTES = 5;
     private static final int MAX_MANUAL_DURATION_MINUTES = 100;
+    /** Gültigkeit geladener Metadaten, danach wird z. B. eine neue Firmware erkannt. */
+    private static final long METADATA_TTL_SECONDS = TimeUnit.HOURS.toSeconds(24);
+    /** Sperre nach einem Fehlschlag, verdoppelt sich bei jedem weiteren bis zur Obergrenze. */
+    private static final long METADATA_RETRY_SECONDS = TimeUnit.MINUTES.toSeconds(5);
+    private static final long METADATA_MAX_RETRY_SECONDS = TimeUnit.HOURS.toSeconds(6);
+    /** Festes Timeout für den Cloud-Dienst, unabhängig vom Timeout des lokalen Sticks. */
+    private static final int CLOUD_TIMEOUT_MILLIS = 10000;
+    /** Höchstens so lange wird beim Start auf nachzügelnde Zonen gewartet, bevor die Startmessung gemeldet wird. */
+    private static final long STARTUP_REPORT_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(2);
+    /** Abstand, in dem der Warmstart-Snapshot während des Betriebs aktualisiert wird. */
+    private static final long SNAPSHOT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(15);
 
     private final Logger logger = LoggerFactory.getLogger(RainbirdBridgeHandler.class);
 
     private @Nullable Client client;
     private @Nullable ScheduledFuture<?> pollTask;
+    private @Nullable ScheduledFuture<?> probeTask;
+    private final AtomicBoolean pollInFlight = new AtomicBoolean();
+    /** Ein Befehl hat einen baldigen Poll angefordert; der laufende Poll darf ihn beim Neuplanen nicht verdrängen. */
+    private final AtomicBoolean pollSoonRequested = new AtomicBoolean();
     private int pollingIntervalSeconds = DEFAULT_REFRESH_SECONDS;
+    private int networkPollingIntervalSeconds = DEFAULT_NETWORK_REFRESH_SECONDS;
+    private int schedulePollingIntervalSeconds = DEFAULT_SCHEDULE_REFRESH_SECONDS;
+    /** Fälligkeit der langsameren Polling-Stufen als {@link System#nanoTime()}-Zeitpunkt. */
+    private volatile long nextNetworkPollNanos;
+    private volatile long nextSchedulePollNanos;
+    private RainbirdPollCadence pollCadence = new RainbirdPollCadence(DEFAULT_REFRESH_SECONDS);
+    private final RainbirdRemainingTimeCountdown countdown = new RainbirdRemainingTimeCountdown();
+    private @Nullable ScheduledFuture<?> countdownTask;
+    private int countdownIntervalSeconds = DEFAULT_COUNTDOWN_SECONDS;
+    private final RainbirdZoneStateDispatcher zoneStates = new RainbirdZoneStateDispatcher(countdown);
+    /** Wird mit dem ersten erfolgreichen Poll nach {@link #initialize()} erfüllt. */
+    private volatile CompletableFuture<PollingResult> firstSnapshot = new CompletableFuture<>();
+    private volatile long startupNanos;
+    private final AtomicBoolean startupReported = new AtomicBoolean();
+    private final RainbirdChannelStateCache stateCache = new RainbirdChannelStateCache();
+    private int republishIntervalSeconds;
     private String deviceId = "controller";
-    private @Nullable ModelAndVersion cachedModel;
-    private @Nullable ControllerFirmwareVersion cachedControllerFirmware;
-    private @Nullable ZipCodeInfo cachedZipCode;
-    private @Nullable String cachedCustomStationName;
+    private final RainbirdMetadataCache<ModelAndVersion> modelCache = newMetadataCache();
+    private final RainbirdMetadataCache<ControllerFirmwareVersion> controllerFirmwareCache = newMetadataCache();
+    private final RainbirdMetadataCache<ZipCodeInfo> zipCodeCache = newMetadataCache();
+    private final RainbirdMetadataCache<String> customStationNameCache = newMetadataCache();
+    private final Object propertyLock = new Object();
+    private @Nullable Path snapshotFile;
+    private String snapshotHost = "";
+    private volatile long nextSnapshotNanos;
+    private final HttpClient httpClient;
+    private final RainbirdStartupCoordinator startupCoordinator;
+    /** Gesetzt, bis der erste Poll nach {@link #initialize()} abgeschlossen ist. */
+    private final AtomicBoolean startupPending = new AtomicBoolean();
+    /** Gesetzt, solange diese Bridge einen der begrenzten Plätze für die Erstabfrage belegt. */
+    private final AtomicBoolean startupSlotHeld = new AtomicBoolean();
     private final Map<Integer, Integer> zoneDurationsMinutes = new ConcurrentHashMap<>();
     private volatile int lastDynamicZoneCount = 0;
-    private volatile @Nullable ZoneStatus lastZoneStatus;
+    private final RainbirdZoneChannelLayout zoneChannelLayout = new RainbirdZoneChannelLayout();
 
-    public RainbirdBridgeHandler(Bridge bridge) {
+    public RainbirdBridgeHandler(Bridge bridge, HttpClient httpClient) {
+        this(bridge, httpClient, new RainbirdStartupCoordinator());
+    }
+
+    /**
+     * @param httpClient gestarteter HTTP-Client des Bindings, über den Stick und Cloud abgefragt werden
+     * @param startupCoordinator von allen Bridges des Bindings geteilt, um die ersten Polls zu verteilen
+     */
+    public RainbirdBridgeHandler(Bridge bridge, HttpClient httpClient, RainbirdStartupCoordinator startupCoordinator) {
         super(bridge);
+        this.httpClient = httpClient;
+        this.startupCoordinator = startupCoordinator;
     }
 
     @Override
@@ -88,15 +157,35 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
         int port = ConfigurationUtils.asInt(cfg.get(CONFIG_PORT), 80);
         String password = ConfigurationUtils.asString(cfg.get(CONFIG_PASSWORD));
         pollingIntervalSeconds = Math.max(5, ConfigurationUtils.asInt(cfg.get(CONFIG_REFRESH), DEFAULT_REFRESH_SECONDS));
+        networkPollingIntervalSeconds = Math.max(pollingIntervalSeconds,
+                ConfigurationUtils.asInt(cfg.get(CONFIG_NETWORK_REFRESH), DEFAULT_NETWORK_REFRESH_SECONDS));
+        schedulePollingIntervalSeconds = Math.max(pollingIntervalSeconds,
+                ConfigurationUtils.asInt(cfg.get(CONFIG_SCHEDULE_REFRESH), DEFAULT_SCHEDULE_REFRESH_SECONDS));
+        pollCadence = new RainbirdPollCadence(pollingIntervalSeconds);
+        countdownIntervalSeconds = Math.max(0,
+                ConfigurationUtils.asInt(cfg.get(CONFIG_COUNTDOWN_INTERVAL), DEFAULT_COUNTDOWN_SECONDS));
+        countdown.clear();
+        zoneStates.reset();
+        firstSnapshot = new CompletableFuture<>();
+        startupNanos = System.nanoTime();
+        startupReported.set(false);
+        republishIntervalSeconds = Math.max(0, ConfigurationUtils.asInt(cfg.get(CONFIG_REPUBLISH_INTERVAL), 0));
+        stateCache.setMaxAgeSeconds(republishIntervalSeconds);
+        stateCache.clear();
+        long now = System.nanoTime();
+        nextNetworkPollNanos = now;
+        nextSchedulePollNanos = now;
         String configuredDeviceId = ConfigurationUtils.asString(cfg.get(CONFIG_DEVICE_ID));
         deviceId = configuredDeviceId != null ? configuredDeviceId : "controller";
-        cachedModel = null;
-        cachedControllerFirmware = null;
-        cachedZipCode = null;
-        cachedCustomStationName = null;
+        modelCache.clear();
+        controllerFirmwareCache.clear();
+        zipCodeCache.clear();
+        customStationNameCache.clear();
         zoneDurationsMinutes.clear();
+        pollInFlight.set(false);
+        pollSoonRequested.set(false);
         lastDynamicZoneCount = 0;
-        lastZoneStatus = null;
+        zoneChannelLayout.reset();
 
         RainbirdConfiguration configuration;
         try {
@@ -107,28 +196,156 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
             return;
         }
 
+        RainbirdClient localClient;
         try {
-            RainbirdClient localClient = new RainbirdClient(configuration);
-            RainbirdClient cloudClient = new RainbirdClient(createCloudConfiguration(configuration.timeoutMillis));
-            client = new Client(localClient, cloudClient);
-            updateStatus(ThingStatus.UNKNOWN);
+            localClient = new RainbirdClient(httpClient, scheduler, configuration);
         } catch (Exception e) {
             logger.warn("Fehler beim Initialisieren des Rain-Bird-Clients", e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
             return;
         }
+        RainbirdClient cloudClient;
+        try {
+            cloudClient = new RainbirdClient(httpClient, scheduler, createCloudConfiguration(CLOUD_TIMEOUT_MILLIS));
+        } catch (Exception e) {
+            // Sonst hielte der lokale Client die gemeinsame I/O-Gruppe für immer fest.
+            localClient.close();
+            logger.warn("Fehler beim Initialisieren des Rain-Bird-Clients", e);
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+            return;
+        }
+        client = new Client(localClient, cloudClient);
+        updateStatus(ThingStatus.UNKNOWN);
+
+        snapshotHost = host != null ? host : "";
+        snapshotFile = Paths.get(OpenHAB.getUserDataFolder(), BINDING_ID,
+                getThing().getUID().getAsString().replace(':', '_') + ".snapshot");
+        nextSnapshotNanos = System.nanoTime();
+        Client restoredClient = client;
+        if (restoredClient != null) {
+            restoreSnapshot(restoredClient);
+        }
 
-        pollTask = scheduler.scheduleWithFixedDelay(this::pollController, 0, pollingIntervalSeconds, TimeUnit.SECONDS);
+        startupPending.set(true);
+        schedulePollMillis(startupCoordinator.nextStartDelayMillis());
     }
 
     @Override
     public void dispose() {
-        ScheduledFuture<?> t = pollTask;
-        if (t != null) {
-            t.cancel(true);
-            pollTask = null;
+        Client activeClient;
+        synchronized (this) {
+            // Ohne Client plant schedulePoll keine weiteren Durchläufe ein.
+            activeClient = client;
+            client = null;
+            ScheduledFuture<?> t = pollTask;
+            if (t != null) {
+                t.cancel(true);
+                pollTask = null;
+            }
+            stopCountdown();
+        }
+        endStartup();
+        ScheduledFuture<?> probe = probeTask;
+        if (probe != null) {
+            probe.cancel(true);
+            probeTask = null;
+        }
+        if (activeClient != null) {
+            writeSnapshot(activeClient);
+            activeClient.close();
+        }
+    }
+
+    /**
+     * Entfernt den Snapshot mit SSID, MAC-Adresse und Zeitplan zusammen mit der Bridge; das anschließende dispose()
+     * schreibt keinen neuen mehr.
+     */
+    @Override
+    public void handleRemoval() {
+        Path file = snapshotFile;
+        snapshotFile = null;
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".tmp"));
+            } catch (IOException e) {
+                logger.debug("Konnte den Rain-Bird-Snapshot {} nicht löschen", file, e);
+            }
+        }
+        super.handleRemoval();
+    }
+
+    /**
+     * Belegt Kanäle, Metadaten und Zeitplan aus dem letzten Snapshot vor. Die Werte gelten als veraltet, bis der
+     * erste Poll sie ersetzt; dank des Zeitplan-Caches liest dieser nur die Controller-Info-Seite neu.
+     */
+    private void restoreSnapshot(Client activeClient) {
+        Path file = snapshotFile;
+        if (file == null) {
+            return;
+        }
+        RainbirdWarmStartSnapshot snapshot;
+        try {
+            snapshot = RainbirdWarmStartSnapshot.read(file);
+        } catch (IOException e) {
+            logger.debug("Konnte den Rain-Bird-Snapshot {} nicht lesen, er wird verworfen", file, e);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException deleteError) {
+                logger.debug("Konnte den Rain-Bird-Snapshot {} nicht löschen", file, deleteError);
+            }
+            return;
+        }
+        if (snapshot == null || !snapshotHost.equals(snapshot.getHost())) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        ModelAndVersion model = snapshot.getModel();
+        if (model != null) {
+            modelCache.succeeded(model, now);
+        }
+        ControllerFirmwareVersion firmware = snapshot.getControllerFirmware();
+        if (firmware != null) {
+            controllerFirmwareCache.succeeded(firmware, now);
+        }
+        ZipCodeInfo zipCode = snapshot.getZipCode();
+        if (zipCode != null) {
+            zipCodeCache.succeeded(zipCode, now);
+        }
+        String customName = snapshot.getCustomStationName();
+        if (customName != null) {
+            customStationNameCache.succeeded(customName, now);
+        }
+        ScheduleSnapshot schedule = snapshot.getSchedule();
+        if (schedule != null) {
+            activeClient.restoreScheduleSnapshot(schedule);
+        }
+
+        PollingResult restored = snapshot.getResult();
+        ZoneStatus zones = restored.getZoneStatus();
+        // Ob noch eine Zone läuft, ist nach dem Neustart unbekannt; die aktive Zone meldet erst der nächste Poll.
+        handlePollingResult(new PollingResult(restored.getControllerStatus(), restored.getProgramStatus(),
+                new ZoneStatus(zones.getAvailableZones(), zones.getSlotCount(), 0, 0)));
+        updateStatus(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, "Letzter bekannter Zustand vom "
+                + restored.getControllerStatus().getRefreshedAt() + ", warte auf Controller");
+    }
+
+    private void writeSnapshot(Client activeClient) {
+        Path file = snapshotFile;
+        PollingResult result = activeClient.getLastResult();
+        if (file == null || result == null) {
+            return;
+        }
+        RainbirdWarmStartSnapshot snapshot = new RainbirdWarmStartSnapshot(snapshotHost, result, modelCache.get(),
+                controllerFirmwareCache.get(), zipCodeCache.get(), customStationNameCache.get(),
+                activeClient.getScheduleSnapshot());
+        try {
+            snapshot.write(file);
+            nextSnapshotNanos = System.nanoTime() + SNAPSHOT_INTERVAL_NANOS;
+        } catch (IOException e) {
+            logger.debug("Konnte den Rain-Bird-Snapshot {} nicht speichern", file, e);
         }
-        client = null;
     }
 
     /** Wird von Child-Handlern genutzt, um den gemeinsamen Client zu beziehen. */
@@ -140,11 +357,41 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
         return pollingIntervalSeconds;
     }
 
+    /** Intervall, nach dem unveränderte Kanalzustände erneut veröffentlicht werden, 0 für nie. */
+    public int getRepublishIntervalSeconds() {
+        return republishIntervalSeconds;
+    }
+
+    /**
+     * Erster Poll-Zustand nach dem Start. Child-Handler warten hierauf, statt selbst zu pollen; jeder Aufrufer erhält
+     * eine eigene Kopie, damit ein Timeout nicht den gemeinsamen Future abschließt.
+     */
+    public CompletableFuture<PollingResult> getFirstSnapshot() {
+        return firstSnapshot.copy();
+    }
+
+    /**
+     * Meldet eine Zone für Zustandsänderungen an. Ist bereits ein gepollter Zustand bekannt, wird er sofort
+     * zugestellt.
+     */
+    public void registerZoneListener(RainbirdZoneStateListener listener) {
+        zoneStates.register(listener, System.nanoTime());
+    }
+
+    public void unregisterZoneListener(RainbirdZoneStateListener listener) {
+        zoneStates.unregister(listener);
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         String id = channelUID.getId();
 
-        if (CHANNEL_PROGRAM_SELECTOR.equals(id)) {
+        if (command instanceof RefreshType) {
+            State last = stateCache.get(id);
+            if (last != null) {
+                updateState(id, last);
+            }
+        } else if (CHANNEL_PROGRAM_SELECTOR.equals(id)) {
             handleProgramCommand(command);
         } else if (CHANNEL_MANUAL_ZONE_SELECTOR.equals(id)) {
             handleManualZoneCommand(command);
@@ -161,32 +408,216 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Client nicht initialisiert");
             return;
         }
+        if (startupPending.get() && !startupSlotHeld.get()) {
+            if (!startupCoordinator.tryBeginStartup()) {
+                // Andere Bridges führen gerade ihre Erstabfrage durch; später erneut versuchen statt zu blockieren.
+                schedulePollMillis(startupCoordinator.retryDelayMillis());
+                return;
+            }
+            startupSlotHeld.set(true);
+        }
+        if (!pollInFlight.compareAndSet(false, true)) {
+            logger.debug("Vorheriges Rain Bird Polling läuft noch, überspringe Durchlauf");
+            return;
+        }
+        // Dieser Poll erfüllt frühere Anforderungen; nur währenddessen eintreffende zählen für die Neuplanung.
+        pollSoonRequested.set(false);
 
-        try {
-            PollingResult result = activeClient.poll();
-            handlePollingResult(result);
-            refreshThingProperties(activeClient, result);
-            updateStatus(ThingStatus.ONLINE);
-        } catch (IOException e) {
-            logger.debug("Rain Bird Polling fehlgeschlagen", e);
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        Set<PollTier> tiers = duePollTiers(System.nanoTime());
+        activeClient.pollAsync(tiers).whenCompleteAsync((result, error) -> {
+            try {
+                if (client != activeClient) {
+                    return;
+                }
+                long delaySeconds = pollCadence.nextDelaySeconds(
+                        error == null ? result.getControllerStatus().getCombinedState() : null);
+                if (pollSoonRequested.getAndSet(false)) {
+                    delaySeconds = Math.min(delaySeconds, RainbirdPollCadence.MIN_SECONDS);
+                }
+                schedulePoll(delaySeconds);
+                if (error != null) {
+                    Throwable cause = RainbirdFutures.unwrap(error);
+                    if (cause instanceof RainbirdCircuitOpenException) {
+                        logger.debug("Rain Bird Stick nicht erreichbar, Polling pausiert: {}", cause.getMessage());
+                        scheduleProbe(((RainbirdCircuitOpenException) cause).getRetryDelayMillis());
+                    } else {
+                        logger.debug("Rain Bird Polling fehlgeschlagen", cause);
+                    }
+                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, cause.getMessage());
+                    return;
+                }
+                markPolled(tiers, System.nanoTime());
+                handlePollingResult(result);
+                // Erst ein echter Poll gibt Zonen ihren Zustand; der Warmstart-Snapshot bleibt der Bridge vorbehalten.
+                zoneStates.markLive(System.nanoTime());
+                refreshThingProperties(activeClient, result);
+                updateStatus(ThingStatus.ONLINE);
+                firstSnapshot.complete(result);
+                reportStartupIfComplete(activeClient);
+                if (System.nanoTime() - nextSnapshotNanos >= 0) {
+                    writeSnapshot(activeClient);
+                }
+            } finally {
+                pollInFlight.set(false);
+                if (client == activeClient) {
+                    // Nach dispose() hat bereits dispose() den Platz freigegeben.
+                    endStartup();
+                }
+            }
+        }, scheduler);
+    }
+
+    /**
+     * Hält einmal pro Start fest, wie viele Stick-Anfragen nötig waren, bis Bridge und alle Zonen ONLINE sind, und
+     * legt beides als Thing-Properties ab. Zonen ohne Handler oder deaktivierte Zonen werden nicht abgewartet; bleibt
+     * eine Zone länger als {@link #STARTUP_REPORT_TIMEOUT_NANOS} zurück, wird mit dem erreichten Stand gemeldet.
+     */
+    private void reportStartupIfComplete(Client activeClient) {
+        if (startupReported.get()) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startupNanos;
+        int online = 0;
+        int awaited = 0;
+        for (Thing child : getThing().getThings()) {
+            if (!isAwaitedAtStartup(child)) {
+                continue;
+            }
+            awaited++;
+            if (child.getStatus() == ThingStatus.ONLINE) {
+                online++;
+            }
+        }
+        if (online < awaited && elapsedNanos < STARTUP_REPORT_TIMEOUT_NANOS) {
+            return;
+        }
+        if (!startupReported.compareAndSet(false, true)) {
+            return;
+        }
+        long requests = activeClient.getSentRequestCount();
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        logger.debug("Rain Bird Start: {} Stick-Anfragen, {} ms bis Bridge und {} von {} Zonen ONLINE",
+                Long.valueOf(requests), Long.valueOf(millis), Integer.valueOf(online), Integer.valueOf(awaited));
+        synchronized (propertyLock) {
+            Map<String, String> properties = new HashMap<>();
+            Map<String, String> current = getThing().getProperties();
+            if (current != null) {
+                properties.putAll(current);
+            }
+            boolean changed = applyProperty(properties, PROPERTY_STARTUP_REQUESTS, Long.toString(requests));
+            changed |= applyProperty(properties, PROPERTY_STARTUP_MILLIS, Long.toString(millis));
+            if (changed) {
+                getThing().setProperties(properties);
+            }
+        }
+    }
+
+    /**
+     * Eine Zone zählt für die Startmessung nur, wenn sie aktiviert ist und einen Handler hat; sonst kann sie nie
+     * ONLINE werden.
+     */
+    static boolean isAwaitedAtStartup(Thing child) {
+        ThingStatus status = child.getStatus();
+        return child.getHandler() != null && status != ThingStatus.UNINITIALIZED && status != ThingStatus.REMOVING
+                && status != ThingStatus.REMOVED;
+    }
+
+    /**
+     * Ersetzt den anstehenden regulären Poll durch einen Poll nach {@code delaySeconds}. Das Intervall richtet sich
+     * nach dem Controller-Zustand, siehe {@link RainbirdPollCadence}.
+     */
+    private void schedulePoll(long delaySeconds) {
+        schedulePollMillis(TimeUnit.SECONDS.toMillis(delaySeconds));
+    }
+
+    private synchronized void schedulePollMillis(long delayMillis) {
+        if (client == null) {
+            return;
+        }
+        ScheduledFuture<?> pending = pollTask;
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        pollTask = scheduler.schedule(this::pollController, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gibt den Platz für die Erstabfrage nach dem ersten abgeschlossenen Poll oder beim Beenden wieder frei.
+     */
+    private void endStartup() {
+        startupPending.set(false);
+        if (startupSlotHeld.compareAndSet(true, false)) {
+            startupCoordinator.endStartup();
+        }
+    }
+
+    /**
+     * Fragt den Zustand kurz nach einem erfolgreichen Start- oder Stopp-Befehl ab.
+     */
+    void pollSoon() {
+        pollSoonRequested.set(true);
+        schedulePoll(RainbirdPollCadence.MIN_SECONDS);
+    }
+
+    /**
+     * Ermittelt die fälligen Polling-Stufen. Der Controller-Zustand wird in jedem Durchlauf abgefragt, Netzwerkstatus
+     * und Programmdaten nur nach Ablauf ihres eigenen Intervalls.
+     */
+    private Set<PollTier> duePollTiers(long now) {
+        Set<PollTier> tiers = EnumSet.of(PollTier.FAST);
+        if (now - nextNetworkPollNanos >= 0) {
+            tiers.add(PollTier.MEDIUM);
+        }
+        if (now - nextSchedulePollNanos >= 0) {
+            tiers.add(PollTier.SLOW);
+        }
+        return tiers;
+    }
+
+    private void markPolled(Set<PollTier> tiers, long now) {
+        if (tiers.contains(PollTier.MEDIUM)) {
+            nextNetworkPollNanos = now + TimeUnit.SECONDS.toNanos(networkPollingIntervalSeconds);
+        }
+        if (tiers.contains(PollTier.SLOW)) {
+            nextSchedulePollNanos = now + TimeUnit.SECONDS.toNanos(schedulePollingIntervalSeconds);
+        }
+    }
+
+    /**
+     * Plant einen zusätzlichen Poll ein, sobald der Circuit Breaker früher als das reguläre Intervall eine Probe zulässt.
+     */
+    private void scheduleProbe(long delayMillis) {
+        if (delayMillis >= TimeUnit.SECONDS.toMillis(pollingIntervalSeconds)) {
+            return;
+        }
+        ScheduledFuture<?> pending = probeTask;
+        if (pending != null && !pending.isDone()) {
+            return;
+        }
+        probeTask = scheduler.schedule(this::pollController, Math.max(100, delayMillis), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Veröffentlicht den Zustand nur, wenn er sich seit der letzten Veröffentlichung geändert hat.
+     */
+    private void publishState(String channelId, State state) {
+        if (stateCache.shouldPublish(channelId, state, System.nanoTime())) {
+            updateState(channelId, state);
         }
     }
 
     protected void handlePollingResult(PollingResult state) {
         ControllerStatus controllerStatus = state.getControllerStatus();
         NetworkStatus networkStatus = controllerStatus.getNetworkStatus();
-        updateState(CHANNEL_NETWORK_UP, networkStatus.isNetworkUp() ? OnOffType.ON : OnOffType.OFF);
-        updateState(CHANNEL_INTERNET_UP, networkStatus.isInternetUp() ? OnOffType.ON : OnOffType.OFF);
+        publishState(CHANNEL_NETWORK_UP, networkStatus.isNetworkUp() ? OnOffType.ON : OnOffType.OFF);
+        publishState(CHANNEL_INTERNET_UP, networkStatus.isInternetUp() ? OnOffType.ON : OnOffType.OFF);
 
         WifiStatus wifiStatus = controllerStatus.getWifiStatus();
-        updateState(CHANNEL_WIFI_SIGNAL, new DecimalType(wifiStatus.getRssi()));
+        publishState(CHANNEL_WIFI_SIGNAL, new DecimalType(wifiStatus.getRssi()));
         String ssid = wifiStatus.getSsid();
-        updateState(CHANNEL_WIFI_SSID, ssid != null && !ssid.isEmpty() ? new StringType(ssid) : UnDefType.NULL);
+        publishState(CHANNEL_WIFI_SSID, ssid != null && !ssid.isEmpty() ? new StringType(ssid) : UnDefType.NULL);
         String mac = wifiStatus.getMacAddress();
-        updateState(CHANNEL_WIFI_MAC, mac != null && !mac.isEmpty() ? new StringType(mac) : UnDefType.NULL);
+        publishState(CHANNEL_WIFI_MAC, mac != null && !mac.isEmpty() ? new StringType(mac) : UnDefType.NULL);
 
         if ((deviceId == null || deviceId.isEmpty() || "controller".equals(deviceId)) && mac != null && !mac.isEmpty()) {
             deviceId = mac;
@@ -194,29 +625,35 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
 
         CombinedState combinedState = controllerStatus.getCombinedState();
         ZonedDateTime controllerTime = combinedState.getControllerTime().atZone(ZoneId.systemDefault());
-        updateState(CHANNEL_CONTROLLER_TIME, new DateTimeType(controllerTime));
-        updateState(CHANNEL_RAIN_DELAY, new DecimalType(combinedState.getDelaySetting()));
-        updateState(CHANNEL_SEASONAL_ADJUST, new DecimalType(combinedState.getSeasonalAdjust()));
+        publishState(CHANNEL_CONTROLLER_TIME, new DateTimeType(controllerTime));
+        publishState(CHANNEL_RAIN_DELAY, new DecimalType(combinedState.getDelaySetting()));
+        publishState(CHANNEL_SEASONAL_ADJUST, new DecimalType(combinedState.getSeasonalAdjust()));
 
         ZoneStatus zoneStatus = state.getZoneStatus();
         int zoneCount = resolveZoneCount(zoneStatus);
-        updateState(CHANNEL_ZONE_COUNT, new DecimalType(zoneCount));
+        publishState(CHANNEL_ZONE_COUNT, new DecimalType(zoneCount));
         updateZoneChannels(zoneCount);
         updateZoneChannelStates(zoneStatus);
-        updateState(CHANNEL_ACTIVE_STATION, new DecimalType(zoneStatus.getActiveZone()));
+        publishState(CHANNEL_ACTIVE_STATION, new DecimalType(zoneStatus.getActiveZone()));
 
         ProgramStatus programStatus = state.getProgramStatus();
-        updateState(CHANNEL_PROGRAM_COUNT, new DecimalType(programStatus.getProgramCount()));
+        publishState(CHANNEL_PROGRAM_COUNT, new DecimalType(programStatus.getProgramCount()));
 
         String summary = programStatus.getSummaries().isEmpty() ? ""
                 : String.join("\n", programStatus.getSummaries());
-        updateState(CHANNEL_SCHEDULE_SUMMARY, new StringType(summary));
+        publishState(CHANNEL_SCHEDULE_SUMMARY, new StringType(summary));
 
         ZonedDateTime refreshedAt = controllerStatus.getRefreshedAt().atZone(ZoneId.systemDefault());
-        updateState(CHANNEL_LAST_POLL, new DateTimeType(refreshedAt));
+        publishState(CHANNEL_LAST_POLL, new DateTimeType(refreshedAt));
     }
 
     private void refreshThingProperties(Client activeClient, PollingResult state) {
+        synchronized (propertyLock) {
+            refreshThingPropertiesLocked(activeClient, state);
+        }
+    }
+
+    private void refreshThingPropertiesLocked(Client activeClient, PollingResult state) {
         Map<String, String> properties = new HashMap<>();
         Map<String, String> current = getThing().getProperties();
         if (current != null) {
@@ -243,101 +680,128 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
             String countryValue = zipCode != null ? zipCode.getCountry() : null;
             changed |= applyProperty(properties, PROPERTY_COUNTRY, countryValue);
 
-            String customName = ensureCustomStationName(activeClient, zipCode);
-            changed |= applyProperty(properties, PROPERTY_CUSTOM_STATION_NAME, customName);
+            // Der Stationsname kommt asynchron aus der Cloud und wird bei Eintreffen nachgetragen.
+            requestCustomStationName(activeClient, zipCode);
+            String customName = customStationNameCache.get();
+            if (customName != null) {
+                changed |= applyProperty(properties, PROPERTY_CUSTOM_STATION_NAME, customName);
+            }
 
         if (changed) {
             getThing().setProperties(properties);
         }
     }
 
+    private static <T> RainbirdMetadataCache<T> newMetadataCache() {
+        return new RainbirdMetadataCache<>(METADATA_TTL_SECONDS, METADATA_RETRY_SECONDS, METADATA_MAX_RETRY_SECONDS);
+    }
+
     private @Nullable ModelAndVersion ensureModelInfo(Client activeClient) {
-        ModelAndVersion model = cachedModel;
-        if (model != null) {
-            return model;
+        long now = System.nanoTime();
+        if (!modelCache.isDue(now)) {
+            return modelCache.get();
         }
         try {
-            model = activeClient.getModelAndVersion();
-            cachedModel = model;
-            return model;
+            modelCache.succeeded(activeClient.getModelAndVersion(), now);
         } catch (IOException e) {
+            modelCache.failed(now);
             logger.debug("Konnte das Rain-Bird-Modell nicht abrufen", e);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
-        return null;
+        return modelCache.get();
     }
 
     private @Nullable ControllerFirmwareVersion ensureControllerFirmware(Client activeClient) {
-        ControllerFirmwareVersion firmware = cachedControllerFirmware;
-        if (firmware != null) {
-            return firmware;
+        long now = System.nanoTime();
+        if (!controllerFirmwareCache.isDue(now)) {
+            return controllerFirmwareCache.get();
         }
         try {
-            firmware = activeClient.getControllerFirmwareVersion();
-            cachedControllerFirmware = firmware;
-            return firmware;
+            controllerFirmwareCache.succeeded(activeClient.getControllerFirmwareVersion(), now);
         } catch (IOException e) {
+            // Ältere Controller beantworten die Abfrage mit NAK; die Sperre verhindert einen Versuch pro Poll.
+            controllerFirmwareCache.failed(now);
             logger.debug("Konnte die Controller-Firmware nicht abrufen", e);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
-        return null;
+        return controllerFirmwareCache.get();
     }
 
     private @Nullable ZipCodeInfo ensureZipCode(Client activeClient) {
-        ZipCodeInfo info = cachedZipCode;
-        if (info != null) {
-            return info;
+        long now = System.nanoTime();
+        if (!zipCodeCache.isDue(now)) {
+            return zipCodeCache.get();
         }
         try {
-            info = activeClient.getZipCode();
-            cachedZipCode = info;
-            return info;
+            zipCodeCache.succeeded(activeClient.getZipCode(), now);
         } catch (IOException e) {
+            zipCodeCache.failed(now);
             logger.debug("Konnte die Standortinformationen nicht abrufen", e);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
-        return null;
+        return zipCodeCache.get();
     }
 
-    private @Nullable String ensureCustomStationName(Client activeClient, @Nullable ZipCodeInfo zipCode) {
-        if (cachedCustomStationName != null && !cachedCustomStationName.isBlank()) {
-            return cachedCustomStationName;
-        }
-        if (zipCode == null) {
-            return null;
+    private void requestCustomStationName(Client activeClient, @Nullable ZipCodeInfo zipCode) {
+        if (zipCode == null || !customStationNameCache.isDue(System.nanoTime())) {
+            return;
         }
         String stickId = deviceId;
         if (stickId == null || stickId.isBlank() || "controller".equalsIgnoreCase(stickId)) {
-            return null;
+            return;
         }
         String zip = zipCode.getCode();
         String country = zipCode.getCountry();
         if (zip == null || zip.isBlank() || country == null || country.isBlank()) {
-            return null;
+            return;
         }
-        try {
-            WeatherStatus weatherStatus = activeClient.getWeatherAndStatus(stickId, country, zip);
-            if (weatherStatus == null) {
-                return null;
+        // Die Abfrage läuft asynchron und hält den lokalen Poll nie auf; läuft noch eine, entfällt diese.
+        CompletableFuture<@Nullable String> request = activeClient.requestCustomStationName(stickId, country, zip);
+        if (request != null) {
+            request.whenCompleteAsync((name, error) -> applyCustomStationName(activeClient, name, error), scheduler);
+        }
+    }
+
+    private void applyCustomStationName(Client activeClient, @Nullable String name, @Nullable Throwable error) {
+        if (client != activeClient) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (name == null) {
+            customStationNameCache.failed(now);
+            if (error != null) {
+                logger.debug("Konnte den Stationsnamen nicht vom Cloud-Dienst laden", RainbirdFutures.unwrap(error));
+            }
+            return;
+        }
+        customStationNameCache.succeeded(name, now);
+        synchronized (propertyLock) {
+            Map<String, String> properties = new HashMap<>();
+            Map<String, String> current = getThing().getProperties();
+            if (current != null) {
+                properties.putAll(current);
             }
-            String controllerName = weatherStatus.getControllerName();
-            if (controllerName != null && !controllerName.isBlank()) {
-                cachedCustomStationName = controllerName.trim();
-                return cachedCustomStationName;
+            if (applyProperty(properties, PROPERTY_CUSTOM_STATION_NAME, name)) {
+                getThing().setProperties(properties);
             }
-            for (String value : weatherStatus.getCustomStationNames().values()) {
-                if (value != null && !value.isBlank()) {
-                    cachedCustomStationName = value.trim();
-                    return cachedCustomStationName;
-                }
+        }
+    }
+
+    private static @Nullable String findCustomStationName(@Nullable WeatherStatus weatherStatus) {
+        if (weatherStatus == null) {
+            return null;
+        }
+        String controllerName = weatherStatus.getControllerName();
+        if (controllerName != null && !controllerName.isBlank()) {
+            return controllerName.trim();
+        }
+        for (String value : weatherStatus.getCustomStationNames().values()) {
+            if (value != null && !value.isBlank()) {
+                return value.trim();
             }
-        } catch (IOException e) {
-            logger.debug("Konnte den Stationsnamen nicht vom Cloud-Dienst laden", e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         }
         return null;
     }
@@ -399,7 +863,9 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
 
         if (!result.isSuccess()) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Programmbefehl fehlgeschlagen");
+            return;
         }
+        pollSoon();
     }
 
     private void handleManualZoneCommand(Command command) {
@@ -421,12 +887,16 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
                 if (!result.isSuccess()) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
                             "Zonenstart fehlgeschlagen");
+                } else {
+                    pollSoon();
                 }
             }
         } else if (value.startsWith("ZONE") && value.endsWith("_OFF")) {
             RainbirdCommandResult result = activeClient.stopAllZones();
             if (!result.isSuccess()) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Zonenstopp fehlgeschlagen");
+            } else {
+                pollSoon();
             }
         }
     }
@@ -468,23 +938,37 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
             duration = sanitizeDurationMinutes(duration);
             zoneDurationsMinutes.put(Integer.valueOf(zoneNumber), Integer.valueOf(duration));
 
-            int remainingSeconds = duration * 60;
-            updateState(CHANNEL_ZONE_REMAINING_PREFIX + zoneNumber, new DecimalType(remainingSeconds));
-
             RainbirdCommandResult result = activeClient.runStation(zoneNumber, duration);
             if (!result.isSuccess()) {
+                // Autoupdate hat den Kanal schon auf ON gesetzt; der zuletzt bekannte Zustand stellt ihn zurück.
+                String activeChannel = CHANNEL_ZONE_ACTIVE_PREFIX + zoneNumber;
+                State known = stateCache.get(activeChannel);
+                updateState(activeChannel, known != null ? known : OnOffType.OFF);
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Zonenstart fehlgeschlagen");
+                return;
             }
+
+            // Erst der bestätigte Start setzt den lokalen Countdown; bis zum nächsten Poll zählt er herunter.
+            int remainingSeconds = duration * 60;
+            publishState(CHANNEL_ZONE_REMAINING_PREFIX + zoneNumber, new DecimalType(remainingSeconds));
+            countdown.anchor(zoneNumber, remainingSeconds, System.nanoTime());
+            zoneStates.update(zoneNumber, System.nanoTime());
+            pollSoon();
         } else if (command == OnOffType.OFF) {
             RainbirdCommandResult result = activeClient.stopAllZones();
             if (!result.isSuccess()) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Zonenstopp fehlgeschlagen");
+            } else {
+                pollSoon();
             }
 
+            countdown.clear();
+            stopCountdown();
+            zoneStates.update(0, System.nanoTime());
             int channelCount = lastDynamicZoneCount;
             for (int zone = 1; zone <= channelCount; zone++) {
-                updateState(CHANNEL_ZONE_ACTIVE_PREFIX + zone, OnOffType.OFF);
-                updateState(CHANNEL_ZONE_REMAINING_PREFIX + zone, new DecimalType(0));
+                publishState(CHANNEL_ZONE_ACTIVE_PREFIX + zone, OnOffType.OFF);
+                publishState(CHANNEL_ZONE_REMAINING_PREFIX + zone, new DecimalType(0));
             }
         }
     }
@@ -501,7 +985,7 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
         }
         int sanitized = sanitizeDurationMinutes(minutes);
         zoneDurationsMinutes.put(zoneIndex, Integer.valueOf(sanitized));
-        updateState(channelUID.getId(), new DecimalType(sanitized * 60));
+        publishState(channelUID.getId(), new DecimalType(sanitized * 60));
     }
 
     private void publishDurationState(int zoneIndex) {
@@ -509,7 +993,7 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
         if (duration == null) {
             duration = Integer.valueOf(DEFAULT_MANUAL_DURATION_MINUTES);
             zoneDurationsMinutes.put(Integer.valueOf(zoneIndex), duration);
-            updateState(CHANNEL_ZONE_DURATION_PREFIX + zoneIndex, new DecimalType(duration.intValue() * 60));
+            publishState(CHANNEL_ZONE_DURATION_PREFIX + zoneIndex, new DecimalType(duration.intValue() * 60));
         }
     }
 
@@ -518,17 +1002,25 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
             zoneCount = 0;
         }
 
-        final int targetCount = zoneCount;
-        zoneDurationsMinutes.keySet().removeIf(index -> index.intValue() > targetCount);
-        boolean needsUpdate = targetCount != lastDynamicZoneCount || hasMismatchedDynamicChannels(targetCount);
-        if (needsUpdate) {
-            if (rebuildDynamicZoneChannels(targetCount)) {
-                lastDynamicZoneCount = targetCount;
-            }
-        } else {
-            lastDynamicZoneCount = targetCount;
+        // Layout unverändert: keine Kanalprüfung, der Poll kostet unabhängig von der Zonenzahl gleich viel.
+        if (zoneChannelLayout.check(zoneCount, this::verifyZoneChannels)) {
+            ensureDefaultZoneDurations(zoneCount);
         }
-        ensureDefaultZoneDurations(targetCount);
+    }
+
+    /**
+     * Gleicht die Zonenkanäle an {@code zoneCount} an.
+     *
+     * @return ob die Kanäle danach zur Zonenzahl passen
+     */
+    private boolean verifyZoneChannels(int zoneCount) {
+        zoneDurationsMinutes.keySet().removeIf(index -> index.intValue() > zoneCount);
+        boolean needsUpdate = zoneCount != lastDynamicZoneCount || hasMismatchedDynamicChannels(zoneCount);
+        if (needsUpdate && !rebuildDynamicZoneChannels(zoneCount)) {
+            return false;
+        }
+        lastDynamicZoneCount = zoneCount;
+        return true;
     }
 
     private void ensureDefaultZoneDurations(int zoneCount) {
@@ -653,20 +1145,54 @@ public class RainbirdBridgeHandler extends BaseBridgeHandler {
         return ChannelBuilder.create(channelUID, itemType).withType(channelTypeUID).withLabel(label).build();
     }
 
-private void updateZoneChannelStates(ZoneStatus zoneStatus) {
-        lastZoneStatus = zoneStatus;
+    private void updateZoneChannelStates(ZoneStatus zoneStatus) {
+        int polledZone = zoneStatus.getActiveZone();
+        int remainingSeconds = zoneStatus.getRemainingRuntime();
+        // Jeder echte Poll korrigiert den lokalen Countdown.
+        countdown.anchor(polledZone, remainingSeconds, System.nanoTime());
+        zoneStates.update(polledZone, System.nanoTime());
+
         int channelCount = lastDynamicZoneCount;
-        if (channelCount <= 0) {
+        for (int zone = 1; zone <= channelCount; zone++) {
+            boolean active = zone == polledZone;
+            publishState(CHANNEL_ZONE_ACTIVE_PREFIX + zone, active ? OnOffType.ON : OnOffType.OFF);
+            int seconds = active ? remainingSeconds : 0;
+            publishState(CHANNEL_ZONE_REMAINING_PREFIX + zone, new DecimalType(seconds));
+        }
+        if (countdown.getZone() > 0) {
+            startCountdown();
+        } else {
+            stopCountdown();
+        }
+    }
+
+    private synchronized void startCountdown() {
+        ScheduledFuture<?> running = countdownTask;
+        if (countdownIntervalSeconds <= 0 || client == null || (running != null && !running.isDone())) {
             return;
         }
+        countdownTask = scheduler.scheduleWithFixedDelay(this::publishCountdown, countdownIntervalSeconds,
+                countdownIntervalSeconds, TimeUnit.SECONDS);
+    }
 
-        int activeZone = zoneStatus.getActiveZone();
-        int remainingSeconds = zoneStatus.getRemainingRuntime();
-        for (int zone = 1; zone <= channelCount; zone++) {
-            boolean active = zone == activeZone;
-            updateState(CHANNEL_ZONE_ACTIVE_PREFIX + zone, active ? OnOffType.ON : OnOffType.OFF);
-            int seconds = active ? remainingSeconds : 0;
-            updateState(CHANNEL_ZONE_REMAINING_PREFIX + zone, new DecimalType(seconds));
+    private synchronized void stopCountdown() {
+        ScheduledFuture<?> running = countdownTask;
+        if (running != null) {
+            running.cancel(false);
+            countdownTask = null;
+        }
+    }
+
+    private void publishCountdown() {
+        int zone = countdown.getZone();
+        int remaining = countdown.remainingSeconds(zone, System.nanoTime());
+        if (zone > 0 && zone <= lastDynamicZoneCount) {
+            publishState(CHANNEL_ZONE_REMAINING_PREFIX + zone, new DecimalType(remaining));
+        }
+        zoneStates.publish(System.nanoTime());
+        if (remaining <= 0) {
+            // Bei null übernimmt der nächste Poll, den RainbirdPollCadence kurz nach Laufzeitende einplant.
+            stopCountdown();
         }
     }
 
@@ -753,6 +1279,10 @@ private void updateZoneChannelStates(ZoneStatus zoneStatus) {
         cloud.port = 80;
         cloud.timeoutMillis = Math.max(1000, timeout);
         cloud.password = "";
+        // Der Circuit Breaker schützt den Stick; die Cloud wird über den Metadaten-Cache gedrosselt.
+        cloud.circuitBreaker = false;
+        // Die Antwortzeit der Cloud schwankt stark; ein aus wenigen Messungen abgeleitetes Timeout wäre zu knapp.
+        cloud.adaptiveTimeout = false;
         return cloud;
     }
 
@@ -845,22 +1375,52 @@ private void updateZoneChannelStates(ZoneStatus zoneStatus) {
         private final RainbirdClient localClient;
         private final @Nullable RainbirdClient cloudClient;
         private volatile @Nullable PollingResult lastResult;
+        /** Höchstens eine Cloud-Abfrage je Client; ein neu initialisierter Handler hat seine eigene. */
+        private final AtomicBoolean cloudRequestInFlight = new AtomicBoolean();
 
         Client(RainbirdClient localClient, @Nullable RainbirdClient cloudClient) {
             this.localClient = localClient;
             this.cloudClient = cloudClient;
         }
 
-        public PollingResult poll() throws IOException, InterruptedException {
-            PollingResult result = localClient.poll();
-            lastResult = result;
-            return result;
+        /** Pollt den Controller asynchron und merkt sich das Ergebnis. */
+        public CompletableFuture<PollingResult> pollAsync() {
+            return pollAsync(EnumSet.allOf(PollTier.class));
+        }
+
+        /** Pollt nur die angegebenen Stufen; die übrigen Daten stammen aus dem letzten Poll. */
+        public CompletableFuture<PollingResult> pollAsync(Set<PollTier> tiers) {
+            return localClient.pollAsync(tiers).thenApply(result -> {
+                lastResult = result;
+                return result;
+            });
         }
 
         public @Nullable PollingResult getLastResult() {
             return lastResult;
         }
 
+        public @Nullable ScheduleSnapshot getScheduleSnapshot() {
+            return localClient.getScheduleSnapshot();
+        }
+
+        void restoreScheduleSnapshot(ScheduleSnapshot snapshot) {
+            localClient.restoreScheduleSnapshot(snapshot);
+        }
+
+        /** Bisher an den Stick gesendete Anfragen. */
+        public long getSentRequestCount() {
+            return localClient.getSentRequestCount();
+        }
+
+        void close() {
+            localClient.close();
+            RainbirdClient cloud = cloudClient;
+            if (cloud != null) {
+                cloud.close();
+            }
+        }
+
         public RainbirdCommandResult runProgram(int programIndex) {
             return localClient.runProgram(programIndex);
         }
@@ -893,5 +1453,35 @@ private void updateZoneChannelStates(ZoneStatus zoneStatus) {
             }
             return cloud.getWeatherAndStatus(stickId, country, zipCode);
         }
+
+        /** Fragt den Cloud-Dienst ohne blockierenden Thread ab; {@code null}, wenn keine Cloud konfiguriert ist. */
+        public CompletableFuture<@Nullable WeatherStatus> getWeatherAndStatusAsync(String stickId, String country,
+                String zipCode) {
+            RainbirdClient cloud = cloudClient;
+            if (cloud == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return cloud.getWeatherAndStatusAsync(stickId, country, zipCode).thenApply(status -> status);
+        }
+
+        /**
+         * Fragt den Stationsnamen beim Cloud-Dienst ab, ohne auf die Antwort zu warten. Läuft noch eine Abfrage,
+         * liefert der Aufruf {@code null}; erst ihr Abschluss, auch durch Fehler oder Timeout, gibt die nächste frei.
+         */
+        @Nullable CompletableFuture<@Nullable String> requestCustomStationName(String stickId, String country,
+                String zipCode) {
+            if (!cloudRequestInFlight.compareAndSet(false, true)) {
+                return null;
+            }
+            CompletableFuture<@Nullable WeatherStatus> request;
+            try {
+                request = getWeatherAndStatusAsync(stickId, country, zipCode);
+            } catch (RuntimeException e) {
+                cloudRequestInFlight.set(false);
+                throw e;
+            }
+            return request.whenComplete((status, error) -> cloudRequestInFlight.set(false))
+                    .thenApply(RainbirdBridgeHandler::findCustomStationName);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.State;
+
+/**
+ * Merkt sich je Kanal den zuletzt veröffentlichten Zustand, damit nur Änderungen auf den Event-Bus gelangen.
+ * Optional wird ein unveränderter Zustand nach Ablauf eines Intervalls trotzdem erneut veröffentlicht.
+ */
+@NonNullByDefault
+final class RainbirdChannelStateCache {
+
+    private static final class Published {
+        final State state;
+        final long publishedNanos;
+
+        Published(State state, long publishedNanos) {
+            this.state = state;
+            this.publishedNanos = publishedNanos;
+        }
+    }
+
+    private final Map<String, Published> published = new HashMap<>();
+    private long maxAgeNanos;
+
+    /**
+     * @param maxAgeSeconds Sekunden, nach denen ein unveränderter Zustand erneut veröffentlicht wird, 0 für nie
+     */
+    synchronized void setMaxAgeSeconds(int maxAgeSeconds) {
+        maxAgeNanos = maxAgeSeconds > 0 ? maxAgeSeconds * 1_000_000_000L : 0;
+    }
+
+    /**
+     * Liefert {@code true}, wenn {@code state} veröffentlicht werden soll, und merkt ihn sich in diesem Fall.
+     */
+    synchronized boolean shouldPublish(String channelId, State state, long nowNanos) {
+        Published last = published.get(channelId);
+        if (last != null && last.state.equals(state)
+                && (maxAgeNanos <= 0 || nowNanos - last.publishedNanos < maxAgeNanos)) {
+            return false;
+        }
+        published.put(channelId, new Published(state, nowNanos));
+        return true;
+    }
+
+    /** Zuletzt veröffentlichter Zustand des Kanals, etwa für einen REFRESH-Befehl. */
+    synchronized @Nullable State get(String channelId) {
+        Published last = published.get(channelId);
+        return last != null ? last.state : null;
+    }
+
+    synchronized void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,59 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Zwischenspeicher für selten wechselnde Controller-Metadaten. Ein Erfolg gilt {@code positiveTtl} Sekunden; ein
+ * Fehlschlag sperrt weitere Abfragen zunächst für {@code negativeTtl} Sekunden, jeder weitere Fehlschlag doppelt so
+ * lange bis höchstens {@code maxNegativeTtl}. Der zuletzt erfolgreich geladene Wert bleibt dabei erhalten.
+ */
+@NonNullByDefault
+final class RainbirdMetadataCache<T> {
+
+    private final long positiveTtlNanos;
+    private final long negativeTtlNanos;
+    private final long maxNegativeTtlNanos;
+
+    private @Nullable T value;
+    private boolean loaded;
+    private long nextLoadNanos;
+    private int failures;
+
+    RainbirdMetadataCache(long positiveTtlSeconds, long negativeTtlSeconds, long maxNegativeTtlSeconds) {
+        this.positiveTtlNanos = TimeUnit.SECONDS.toNanos(positiveTtlSeconds);
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        this.maxNegativeTtlNanos = TimeUnit.SECONDS.toNanos(Math.max(negativeTtlSeconds, maxNegativeTtlSeconds));
+    }
+
+    /** {@code true}, wenn der Wert (erneut) abgefragt werden soll. */
+    synchronized boolean isDue(long nowNanos) {
+        return !loaded || nowNanos - nextLoadNanos >= 0;
+    }
+
+    synchronized @Nullable T get() {
+        return value;
+    }
+
+    synchronized void succeeded(T loadedValue, long nowNanos) {
+        value = loadedValue;
+        failures = 0;
+        loaded = true;
+        nextLoadNanos = nowNanos + positiveTtlNanos;
+    }
+
+    synchronized void failed(long nowNanos) {
+        long backoff = Math.min(maxNegativeTtlNanos, negativeTtlNanos << Math.min(failures, 20));
+        failures++;
+        loaded = true;
+        nextLoadNanos = nowNanos + backoff;
+    }
+
+    synchronized void clear() {
+        value = null;
+        loaded = false;
+        failures = 0;
+    }
+}
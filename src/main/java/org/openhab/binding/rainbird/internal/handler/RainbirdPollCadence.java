@@ -0,0 +1,58 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.CombinedState;
+
+/**
+ * Bestimmt den Abstand bis zum nächsten Poll anhand des zuletzt gemeldeten Controller-Zustands: kurz während eine
+ * Zone bewässert und um das Ende der Restlaufzeit herum, lang im Leerlauf und noch länger bei aktiver Regenpause.
+ */
+@NonNullByDefault
+final class RainbirdPollCadence {
+
+    static final int ACTIVE_SECONDS = 10;
+    static final int MIN_SECONDS = 2;
+    /** Abstand nach Ablauf der Restlaufzeit, damit der Controller die nächste Zone bereits gemeldet hat. */
+    static final int RUNTIME_END_MARGIN_SECONDS = 2;
+    static final int IDLE_FACTOR = 4;
+    static final int MAX_IDLE_SECONDS = 600;
+    static final int RAIN_DELAY_FACTOR = 10;
+    static final int MAX_RAIN_DELAY_SECONDS = 1800;
+
+    private final int baseSeconds;
+    private boolean wasRunning;
+
+    RainbirdPollCadence(int baseSeconds) {
+        this.baseSeconds = Math.max(MIN_SECONDS, baseSeconds);
+    }
+
+    /**
+     * Sekunden bis zum nächsten Poll; ohne bekannten Zustand gilt das konfigurierte Intervall.
+     */
+    synchronized int nextDelaySeconds(@Nullable CombinedState state) {
+        if (state == null) {
+            return baseSeconds;
+        }
+        int active = Math.min(baseSeconds, ACTIVE_SECONDS);
+        boolean running = state.getActiveStation() > 0 || state.getRemainingRuntime() > 0;
+        boolean justStopped = wasRunning && !running;
+        wasRunning = running;
+        if (running) {
+            int remaining = state.getRemainingRuntime();
+            if (remaining > 0 && remaining + RUNTIME_END_MARGIN_SECONDS <= active) {
+                // Kurz nach dem Ende der Laufzeit nachsehen, statt das volle aktive Intervall abzuwarten.
+                return Math.max(MIN_SECONDS, remaining + RUNTIME_END_MARGIN_SECONDS);
+            }
+            return active;
+        }
+        if (justStopped) {
+            // Ein Programm startet die nächste Zone erst nach dem Ende der vorherigen.
+            return active;
+        }
+        if (state.getDelaySetting() > 0) {
+            return Math.max(baseSeconds, Math.min(baseSeconds * RAIN_DELAY_FACTOR, MAX_RAIN_DELAY_SECONDS));
+        }
+        return Math.max(baseSeconds, Math.min(baseSeconds * IDLE_FACTOR, MAX_IDLE_SECONDS));
+    }
+}
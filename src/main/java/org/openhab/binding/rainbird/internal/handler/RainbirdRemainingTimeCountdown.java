@@ -0,0 +1,43 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Rechnet die Restlaufzeit der aktiven Zone zwischen zwei Polls lokal herunter. Verankert wird auf dem zuletzt
+ * gemeldeten Wert und dem monotonen Zeitpunkt seines Empfangs; jeder echte Poll setzt den Anker neu.
+ */
+@NonNullByDefault
+final class RainbirdRemainingTimeCountdown {
+
+    private int zone;
+    private int anchorSeconds;
+    private long anchorNanos;
+
+    synchronized void anchor(int activeZone, int remainingSeconds, long nowNanos) {
+        zone = remainingSeconds > 0 ? activeZone : 0;
+        anchorSeconds = Math.max(0, remainingSeconds);
+        anchorNanos = nowNanos;
+    }
+
+    synchronized void clear() {
+        zone = 0;
+        anchorSeconds = 0;
+    }
+
+    synchronized int getZone() {
+        return zone;
+    }
+
+    /**
+     * Hochgerechnete Restlaufzeit von {@code queriedZone} in Sekunden; 0 für jede andere Zone.
+     */
+    synchronized int remainingSeconds(int queriedZone, long nowNanos) {
+        if (zone <= 0 || queriedZone != zone) {
+            return 0;
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toSeconds(Math.max(0, nowNanos - anchorNanos));
+        return (int) Math.max(0, anchorSeconds - elapsed);
+    }
+}
@@ -0,0 +1,78 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Bindingweite Abstimmung der ersten Polls aller Bridges. Startzeitpunkte werden in festen Abständen mit Jitter
+ * verteilt, und nur wenige Bridges dürfen gleichzeitig ihre Erstabfrage durchführen; die übrigen warten ohne einen
+ * Pool-Thread zu blockieren.
+ */
+@NonNullByDefault
+public final class RainbirdStartupCoordinator {
+
+    static final int DEFAULT_MAX_CONCURRENT_STARTUPS = 2;
+    static final long DEFAULT_STAGGER_MILLIS = 2000;
+    static final long DEFAULT_JITTER_MILLIS = 1000;
+
+    private final Semaphore startups;
+    private final long staggerNanos;
+    private final long jitterMillis;
+    private final LongSupplier clock;
+    private final Random random;
+
+    /** Frühester Startzeitpunkt, der noch nicht vergeben ist, als {@link System#nanoTime()}-Wert. */
+    private long nextSlotNanos;
+    private boolean slotsUsed;
+
+    public RainbirdStartupCoordinator() {
+        this(DEFAULT_MAX_CONCURRENT_STARTUPS, DEFAULT_STAGGER_MILLIS, DEFAULT_JITTER_MILLIS, System::nanoTime,
+                new Random());
+    }
+
+    RainbirdStartupCoordinator(int maxConcurrentStartups, long staggerMillis, long jitterMillis, LongSupplier clock,
+            Random random) {
+        this.startups = new Semaphore(Math.max(1, maxConcurrentStartups));
+        this.staggerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, staggerMillis));
+        this.jitterMillis = Math.max(0, jitterMillis);
+        this.clock = clock;
+        this.random = random;
+    }
+
+    /**
+     * Vergibt den nächsten freien Startzeitpunkt und liefert die Wartezeit bis dahin in Millisekunden.
+     */
+    synchronized long nextStartDelayMillis() {
+        long now = clock.getAsLong();
+        long slot = slotsUsed && nextSlotNanos - now > 0 ? nextSlotNanos : now;
+        nextSlotNanos = slot + staggerNanos;
+        slotsUsed = true;
+        return TimeUnit.NANOSECONDS.toMillis(slot - now) + jitter();
+    }
+
+    /**
+     * Wartezeit, nach der eine Bridge ohne freien Platz es erneut versucht.
+     */
+    synchronized long retryDelayMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(staggerNanos) + jitter();
+    }
+
+    /**
+     * Belegt einen der begrenzten Plätze für die Erstabfrage; {@code false}, wenn alle vergeben sind.
+     */
+    boolean tryBeginStartup() {
+        return startups.tryAcquire();
+    }
+
+    void endStartup() {
+        startups.release();
+    }
+
+    private long jitter() {
+        return jitterMillis > 0 ? (long) (random.nextDouble() * jitterMillis) : 0;
+    }
+}
@@ -0,0 +1,271 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.CombinedState;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ControllerFirmwareVersion;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ControllerStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ModelAndVersion;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.NetworkStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.PollingResult;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ProgramStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ScheduleSnapshot;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.WifiStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ZipCodeInfo;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ZoneStatus;
+
+/**
+ * Letzter bekannter Zustand einer Bridge samt Metadaten und Zeitplan, binär unter userdata abgelegt. Beim Start werden
+ * die Kanäle daraus vorbelegt, bis der erste echte Poll eintrifft.
+ */
+@NonNullByDefault
+final class RainbirdWarmStartSnapshot {
+
+    private static final int MAGIC = 0x52425753; // "RBWS"
+    private static final int VERSION = 2;
+
+    private final String host;
+    private final PollingResult result;
+    private final @Nullable ModelAndVersion model;
+    private final @Nullable ControllerFirmwareVersion controllerFirmware;
+    private final @Nullable ZipCodeInfo zipCode;
+    private final @Nullable String customStationName;
+    private final @Nullable ScheduleSnapshot schedule;
+
+    RainbirdWarmStartSnapshot(String host, PollingResult result, @Nullable ModelAndVersion model,
+            @Nullable ControllerFirmwareVersion controllerFirmware, @Nullable ZipCodeInfo zipCode,
+            @Nullable String customStationName, @Nullable ScheduleSnapshot schedule) {
+        this.host = host;
+        this.result = result;
+        this.model = model;
+        this.controllerFirmware = controllerFirmware;
+        this.zipCode = zipCode;
+        this.customStationName = customStationName;
+        this.schedule = schedule;
+    }
+
+    String getHost() {
+        return host;
+    }
+
+    PollingResult getResult() {
+        return result;
+    }
+
+    @Nullable
+    ModelAndVersion getModel() {
+        return model;
+    }
+
+    @Nullable
+    ControllerFirmwareVersion getControllerFirmware() {
+        return controllerFirmware;
+    }
+
+    @Nullable
+    ZipCodeInfo getZipCode() {
+        return zipCode;
+    }
+
+    @Nullable
+    String getCustomStationName() {
+        return customStationName;
+    }
+
+    @Nullable
+    ScheduleSnapshot getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Schreibt den Snapshot über eine temporäre Datei, damit ein Absturz keine halbe Datei hinterlässt.
+     */
+    void write(Path file) throws IOException {
+        Path directory = file.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, toBytes());
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Liest einen Snapshot; {@code null}, wenn keiner existiert oder er aus einer anderen Version stammt. Eine
+     * abgeschnittene oder beschädigte Datei meldet eine {@link IOException}.
+     */
+    static @Nullable RainbirdWarmStartSnapshot read(Path file) throws IOException {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        try {
+            return fromBytes(data);
+        } catch (EOFException e) {
+            throw new IOException("Rain Bird snapshot " + file + " is truncated", e);
+        } catch (DateTimeException | IllegalArgumentException e) {
+            // Eine beschädigte Datei kann Magic und Version überstehen und erst beim Dekodieren der Werte auffallen.
+            throw new IOException("Rain Bird snapshot " + file + " is damaged", e);
+        }
+    }
+
+    byte[] toBytes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(host);
+
+            ControllerStatus controller = result.getControllerStatus();
+            out.writeLong(controller.getRefreshedAt().toEpochMilli());
+            NetworkStatus network = controller.getNetworkStatus();
+            out.writeBoolean(network.isNetworkUp());
+            out.writeBoolean(network.isInternetUp());
+            WifiStatus wifi = controller.getWifiStatus();
+            out.writeInt(wifi.getRssi());
+            writeNullable(out, wifi.getSsid());
+            writeNullable(out, wifi.getMacAddress());
+            writeNullable(out, wifi.getFirmwareVersion());
+            CombinedState combined = controller.getCombinedState();
+            out.writeInt(combined.getDelaySetting());
+            out.writeInt(combined.getSensorState());
+            out.writeInt(combined.getIrrigationState());
+            out.writeInt(combined.getSeasonalAdjust());
+            out.writeInt(combined.getRemainingRuntime());
+            out.writeInt(combined.getActiveStation());
+            out.writeUTF(combined.getControllerTime().toString());
+
+            ProgramStatus programs = result.getProgramStatus();
+            out.writeInt(programs.getProgramCount());
+            writeStrings(out, programs.getSummaries());
+            ZoneStatus zones = result.getZoneStatus();
+            out.writeShort(zones.getAvailableZones().size());
+            for (Integer zone : zones.getAvailableZones()) {
+                out.writeShort(zone.intValue());
+            }
+            out.writeInt(zones.getSlotCount());
+            out.writeInt(zones.getActiveZone());
+            out.writeInt(zones.getRemainingRuntime());
+
+            ModelAndVersion m = model;
+            out.writeBoolean(m != null);
+            if (m != null) {
+                out.writeInt(m.getModelId());
+                out.writeInt(m.getProtocolMajor());
+                out.writeInt(m.getProtocolMinor());
+            }
+            ControllerFirmwareVersion firmware = controllerFirmware;
+            out.writeBoolean(firmware != null);
+            if (firmware != null) {
+                out.writeInt(firmware.getMajor());
+                out.writeInt(firmware.getMinor());
+                out.writeInt(firmware.getPatch());
+            }
+            ZipCodeInfo zip = zipCode;
+            out.writeBoolean(zip != null);
+            if (zip != null) {
+                writeNullable(out, zip.getCode());
+                writeNullable(out, zip.getCountry());
+            }
+            writeNullable(out, customStationName);
+            ScheduleSnapshot cachedSchedule = schedule;
+            out.writeBoolean(cachedSchedule != null);
+            if (cachedSchedule != null) {
+                out.writeUTF(cachedSchedule.getIdentity());
+                out.writeUTF(cachedSchedule.getFingerprint());
+                writeStrings(out, cachedSchedule.getSummaries());
+                out.writeLong(cachedSchedule.getFetchedAt().toEpochMilli());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static @Nullable RainbirdWarmStartSnapshot fromBytes(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+            return null;
+        }
+        String host = in.readUTF();
+
+        Instant refreshedAt = Instant.ofEpochMilli(in.readLong());
+        NetworkStatus network = new NetworkStatus(in.readBoolean(), in.readBoolean());
+        WifiStatus wifi = new WifiStatus(in.readInt(), readNullable(in), readNullable(in), readNullable(in));
+        CombinedState combined = new CombinedState(in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+                in.readInt(), in.readInt(), LocalDateTime.parse(in.readUTF()));
+        ControllerStatus controller = new ControllerStatus(network, wifi, combined, refreshedAt);
+
+        ProgramStatus programs = new ProgramStatus(in.readInt(), readStrings(in));
+        int zoneCount = in.readShort();
+        Set<Integer> zones = new HashSet<>();
+        for (int i = 0; i < zoneCount; i++) {
+            zones.add(Integer.valueOf(in.readShort()));
+        }
+        ZoneStatus zoneStatus = new ZoneStatus(zones, in.readInt(), in.readInt(), in.readInt());
+        PollingResult result = new PollingResult(controller, programs, zoneStatus);
+
+        ModelAndVersion model = in.readBoolean() ? new ModelAndVersion(in.readInt(), in.readInt(), in.readInt())
+                : null;
+        ControllerFirmwareVersion firmware = in.readBoolean()
+                ? new ControllerFirmwareVersion(in.readInt(), in.readInt(), in.readInt())
+                : null;
+        ZipCodeInfo zip = in.readBoolean() ? new ZipCodeInfo(readNullable(in), readNullable(in)) : null;
+        String customStationName = readNullable(in);
+        ScheduleSnapshot schedule = in.readBoolean()
+                ? new ScheduleSnapshot(in.readUTF(), in.readUTF(), readStrings(in),
+                        Instant.ofEpochMilli(in.readLong()))
+                : null;
+        return new RainbirdWarmStartSnapshot(host, result, model, firmware, zip, customStationName, schedule);
+    }
+
+    private static void writeNullable(DataOutputStream out, @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static @Nullable String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeShort(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int count = in.readShort();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+}
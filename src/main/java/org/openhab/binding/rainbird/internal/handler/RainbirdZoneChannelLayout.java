@@ -0,0 +1,49 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import java.util.function.IntPredicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Merkt sich, für welches Zonenkanal-Layout die Kanäle des Things zuletzt geprüft wurden. Solange sich das Layout
+ * nicht ändert, entfällt die Kanalprüfung und der Poll kostet unabhängig von der Zonenzahl gleich viel.
+ */
+@NonNullByDefault
+final class RainbirdZoneChannelLayout {
+
+    /** Bei Änderungen an IDs oder Typen der Zonenkanäle erhöhen, damit bestehende Things neu aufgebaut werden. */
+    static final int VERSION = 1;
+    private static final long NONE = -1;
+
+    private volatile long checked = NONE;
+
+    /**
+     * Die Zonenkanäle ergeben sich allein aus der Zonenzahl, daher genügt sie zusammen mit der Layout-Version als
+     * Fingerprint.
+     */
+    static long fingerprint(int zoneCount) {
+        return ((long) VERSION << 32) | (zoneCount & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Ruft {@code verifier} nur auf, wenn sich das Layout seit der letzten erfolgreichen Prüfung geändert hat.
+     *
+     * @param verifier prüft und baut die Kanäle bei Bedarf neu auf; {@code true}, wenn sie danach passen
+     * @return ob geprüft wurde
+     */
+    boolean check(int zoneCount, IntPredicate verifier) {
+        long layout = fingerprint(zoneCount);
+        if (layout == checked) {
+            return false;
+        }
+        if (verifier.test(zoneCount)) {
+            checked = layout;
+        }
+        return true;
+    }
+
+    /** Erzwingt bei der nächsten Gelegenheit eine erneute Prüfung, etwa nach einer Neuinitialisierung. */
+    void reset() {
+        checked = NONE;
+    }
+}
@@ -6,14 +6,12 @@ import static org.openhab.binding.rainbird.internal.RainbirdBindingConstants.CHA
 import static org.openhab.binding.rainbird.internal.RainbirdBindingConstants.CONFIG_DEFAULT_DURATION;
 import static org.openhab.binding.rainbird.internal.RainbirdBindingConstants.CONFIG_ZONE_NUMBER;
 
-import java.io.IOException;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.rainbird.internal.handler.RainbirdBridgeHandler.Client;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.PollingResult;
-import org.openhab.binding.rainbird.internal.net.RainbirdClient.ZoneStatus;
 import org.openhab.binding.rainbird.internal.net.RainbirdCommandResult;
 import org.openhab.binding.rainbird.internal.util.ConfigurationUtils;
 import org.openhab.core.config.core.Configuration;
@@ -26,19 +24,22 @@ import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
 import org.openhab.core.types.Command;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.openhab.core.types.RefreshType;
+import org.openhab.core.types.State;
 
 /**
  * Zonen-Thing (Child). Steuert eine einzelne Bewässerungszone.
  */
-public class RainbirdZoneHandler extends BaseThingHandler {
+public class RainbirdZoneHandler extends BaseThingHandler implements RainbirdZoneStateListener {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(RainbirdZoneHandler.class);
+    /** Höchstens so lange wird nach dem Start auf den ersten Zustand der Bridge gewartet. */
+    private static final long FIRST_SNAPSHOT_TIMEOUT_SECONDS = 120;
 
     private int zoneNumber = 1;
     private int defaultDurationSec = 300;
-    private @Nullable ScheduledFuture<?> pollTask;
+    private final RainbirdChannelStateCache stateCache = new RainbirdChannelStateCache();
+    private @Nullable RainbirdBridgeHandler registeredBridge;
+    private @Nullable CompletableFuture<PollingResult> firstSnapshot;
 
     public RainbirdZoneHandler(Thing thing) {
         super(thing);
@@ -58,52 +59,50 @@ public class RainbirdZoneHandler extends BaseThingHandler {
 
         updateStatus(ThingStatus.UNKNOWN);
         RainbirdBridgeHandler bridgeHandler = (RainbirdBridgeHandler) bridge.getHandler();
-        int interval = bridgeHandlerPollingInterval(bridgeHandler);
-        pollTask = scheduler.scheduleWithFixedDelay(this::poll, 2, interval, TimeUnit.SECONDS);
+        stateCache.setMaxAgeSeconds(bridgeHandler.getRepublishIntervalSeconds());
+        stateCache.clear();
+        // Die Bridge stellt den Zonenzustand nach jedem Poll und Countdown-Schritt zu, eigene Timer entfallen.
+        registeredBridge = bridgeHandler;
+        bridgeHandler.registerZoneListener(this);
+        // Auch beim Kaltstart nie selbst pollen: alle Zonen teilen sich den ersten Poll der Bridge.
+        CompletableFuture<PollingResult> snapshot = bridgeHandler.getFirstSnapshot()
+                .orTimeout(FIRST_SNAPSHOT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        firstSnapshot = snapshot;
+        snapshot.whenComplete((result, error) -> {
+            if (error != null && !snapshot.isCancelled() && getThing().getStatus() != ThingStatus.ONLINE) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                        "Kein Zustand von der Bridge nach " + FIRST_SNAPSHOT_TIMEOUT_SECONDS + " s");
+            }
+        });
     }
 
-    private void poll() {
-        Bridge bridge = getBridge();
-        if (bridge == null) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE, "Keine Bridge");
-            return;
-        }
-
-        RainbirdBridgeHandler bridgeHandler = (RainbirdBridgeHandler) bridge.getHandler();
-        if (bridgeHandler == null) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE, "Bridge-Handler fehlt");
-            return;
-        }
-
-        Client client = bridgeHandler.getClient();
-        if (client == null) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE, "Client nicht verfügbar");
-            return;
+    @Override
+    public void dispose() {
+        CompletableFuture<PollingResult> snapshot = firstSnapshot;
+        if (snapshot != null) {
+            snapshot.cancel(false);
+            firstSnapshot = null;
         }
-
-        PollingResult result = client.getLastResult();
-        if (result == null) {
-            try {
-                result = client.poll();
-            } catch (IOException e) {
-                LOGGER.debug("Fehler beim Polling des Rain Bird Controllers", e);
-                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
-                return;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return;
-            }
+        RainbirdBridgeHandler bridgeHandler = registeredBridge;
+        if (bridgeHandler != null) {
+            bridgeHandler.unregisterZoneListener(this);
+            registeredBridge = null;
         }
+    }
 
-        applyZoneState(result.getZoneStatus());
+    @Override
+    public int getZoneNumber() {
+        return zoneNumber;
     }
 
     @Override
-    public void dispose() {
-        ScheduledFuture<?> t = pollTask;
-        if (t != null) {
-            t.cancel(true);
-            pollTask = null;
+    public void zoneStateUpdated(boolean active, int remainingSeconds) {
+        publishState(CHANNEL_ZONE_SWITCH, active ? OnOffType.ON : OnOffType.OFF);
+        publishState(CHANNEL_ZONE_REMAINING_TIME, new DecimalType(remainingSeconds));
+        publishState(CHANNEL_ZONE_FLOW, new DecimalType(0));
+        // Wird bei jedem Countdown-Schritt aufgerufen; den Status nur beim Wechsel melden.
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            updateStatus(ThingStatus.ONLINE);
         }
     }
 
@@ -111,18 +110,20 @@ public class RainbirdZoneHandler extends BaseThingHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
         String id = channelUID.getId();
 
-        if (CHANNEL_ZONE_SWITCH.equals(id)) {
+        if (command instanceof RefreshType) {
+            State last = stateCache.get(id);
+            if (last != null) {
+                updateState(id, last);
+            }
+        } else if (CHANNEL_ZONE_SWITCH.equals(id)) {
             handleSwitchCommand(command);
         }
     }
 
-    private void applyZoneState(ZoneStatus status) {
-        boolean active = status.getActiveZone() == zoneNumber;
-        updateState(CHANNEL_ZONE_SWITCH, active ? OnOffType.ON : OnOffType.OFF);
-        int remaining = active ? status.getRemainingRuntime() : 0;
-        updateState(CHANNEL_ZONE_REMAINING_TIME, new DecimalType(remaining));
-        updateState(CHANNEL_ZONE_FLOW, new DecimalType(0));
-        updateStatus(ThingStatus.ONLINE);
+    private void publishState(String channelId, State state) {
+        if (stateCache.shouldPublish(channelId, state, System.nanoTime())) {
+            updateState(channelId, state);
+        }
     }
 
     private void handleSwitchCommand(Command command) {
@@ -149,19 +150,16 @@ public class RainbirdZoneHandler extends BaseThingHandler {
             RainbirdCommandResult result = client.runStation(zoneNumber, minutes);
             if (!result.isSuccess()) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Zonenstart fehlgeschlagen");
+            } else {
+                bridgeHandler.pollSoon();
             }
         } else if (command == OnOffType.OFF) {
             RainbirdCommandResult result = client.stopAllZones();
             if (!result.isSuccess()) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Zonenstopp fehlgeschlagen");
+            } else {
+                bridgeHandler.pollSoon();
             }
         }
     }
-
-    private int bridgeHandlerPollingInterval(@Nullable RainbirdBridgeHandler handler) {
-        if (handler == null) {
-            return 30;
-        }
-        return Math.max(5, handler.getPollingIntervalSeconds());
-    }
 }
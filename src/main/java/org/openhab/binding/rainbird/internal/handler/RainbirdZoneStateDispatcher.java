@@ -0,0 +1,86 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verteilt den Zustand der aktiven Zone an die angemeldeten Zonen. Zugestellt wird erst, wenn ein echter Poll den
+ * Zustand geliefert hat; ein aus dem Warmstart-Snapshot übernommener Zustand bleibt der Bridge vorbehalten.
+ */
+@NonNullByDefault
+final class RainbirdZoneStateDispatcher {
+
+    private final Logger logger = LoggerFactory.getLogger(RainbirdZoneStateDispatcher.class);
+
+    private final RainbirdRemainingTimeCountdown countdown;
+    private final Set<RainbirdZoneStateListener> listeners = new CopyOnWriteArraySet<>();
+    /** Zuletzt gemeldete oder manuell gestartete Zone, 0 wenn keine läuft. */
+    private volatile int activeZone;
+    /** Gesetzt, sobald ein echter Poll einen Zonenzustand geliefert hat. */
+    private volatile boolean live;
+
+    RainbirdZoneStateDispatcher(RainbirdRemainingTimeCountdown countdown) {
+        this.countdown = countdown;
+    }
+
+    /**
+     * Meldet eine Zone an. Ist bereits ein gepollter Zustand bekannt, wird er sofort zugestellt.
+     */
+    void register(RainbirdZoneStateListener listener, long nowNanos) {
+        listeners.add(listener);
+        if (live) {
+            deliver(listener, activeZone, nowNanos);
+        }
+    }
+
+    void unregister(RainbirdZoneStateListener listener) {
+        listeners.remove(listener);
+    }
+
+    /** Übernimmt die aktive Zone und stellt sie zu, sofern bereits ein Poll gelungen ist. */
+    void update(int zone, long nowNanos) {
+        activeZone = zone;
+        publish(nowNanos);
+    }
+
+    /**
+     * Gibt die Zustellung nach dem ersten echten Poll frei und stellt den dabei übernommenen Zustand allen Zonen zu.
+     */
+    void markLive(long nowNanos) {
+        if (!live) {
+            live = true;
+            publish(nowNanos);
+        }
+    }
+
+    /** Stellt den aktuellen Zustand erneut zu, etwa nach einem Schritt des Countdowns. */
+    void publish(long nowNanos) {
+        if (!live) {
+            return;
+        }
+        int zone = activeZone;
+        for (RainbirdZoneStateListener listener : listeners) {
+            deliver(listener, zone, nowNanos);
+        }
+    }
+
+    /** Verwirft den Zustand bei einer Neuinitialisierung; angemeldete Zonen bleiben angemeldet. */
+    void reset() {
+        live = false;
+        activeZone = 0;
+    }
+
+    private void deliver(RainbirdZoneStateListener listener, int zone, long nowNanos) {
+        int zoneNumber = listener.getZoneNumber();
+        boolean active = zoneNumber == zone;
+        try {
+            listener.zoneStateUpdated(active, active ? countdown.remainingSeconds(zoneNumber, nowNanos) : 0);
+        } catch (RuntimeException e) {
+            logger.warn("Fehler beim Zustellen des Zustands von Zone {}", Integer.valueOf(zoneNumber), e);
+        }
+    }
+}
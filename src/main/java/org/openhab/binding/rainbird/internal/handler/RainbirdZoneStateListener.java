@@ -0,0 +1,19 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Empfängt von der Bridge den Zustand einer einzelnen Zone, sobald ein Poll oder der lokale Countdown ihn liefert.
+ */
+@NonNullByDefault
+public interface RainbirdZoneStateListener {
+
+    /** Nummer der Zone, deren Zustand zugestellt werden soll. */
+    int getZoneNumber();
+
+    /**
+     * @param active ob die Zone gerade bewässert
+     * @param remainingSeconds Restlaufzeit in Sekunden, 0 bei inaktiver Zone
+     */
+    void zoneStateUpdated(boolean active, int remainingSeconds);
+}
@@ -0,0 +1,65 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Binding-wide pool of heap buffers that responses are read, decrypted and parsed in.
+ * Buffers stay array-backed so the cipher and the JSON parser can work on the backing array directly.
+ */
+@NonNullByDefault
+final class RainbirdBufferPool {
+
+    static final int DEFAULT_CAPACITY = 4096;
+    /** Larger buffers are used once and left to the garbage collector. */
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 16;
+
+    private static final Deque<ByteBuffer> POOL = new ArrayDeque<>();
+
+    private RainbirdBufferPool() {
+        // Utility class
+    }
+
+    /**
+     * Take a cleared buffer with at least {@code minCapacity} bytes.
+     */
+    static ByteBuffer acquire(int minCapacity) {
+        synchronized (POOL) {
+            ByteBuffer pooled = POOL.pollFirst();
+            if (pooled != null && pooled.capacity() >= minCapacity) {
+                pooled.clear();
+                return pooled;
+            }
+            if (pooled != null) {
+                POOL.addFirst(pooled);
+            }
+        }
+        return ByteBuffer.allocate(Math.max(DEFAULT_CAPACITY, minCapacity));
+    }
+
+    /**
+     * Grow {@code buffer} to at least {@code minCapacity}, keeping its first {@code used} bytes.
+     * The old buffer is returned to the pool.
+     */
+    static ByteBuffer grow(ByteBuffer buffer, int used, int minCapacity) {
+        ByteBuffer larger = acquire(Math.max(minCapacity, buffer.capacity() * 2));
+        larger.put(buffer.array(), 0, used);
+        release(buffer);
+        return larger;
+    }
+
+    static void release(ByteBuffer buffer) {
+        if (!buffer.hasArray() || buffer.capacity() > MAX_POOLED_CAPACITY) {
+            return;
+        }
+        synchronized (POOL) {
+            if (POOL.size() < MAX_POOLED_BUFFERS) {
+                POOL.addFirst(buffer);
+            }
+        }
+    }
+}
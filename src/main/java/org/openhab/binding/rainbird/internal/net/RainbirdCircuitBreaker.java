@@ -0,0 +1,114 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Tracks transport failures towards the stick and rejects requests while it is considered unreachable.
+ * After the jittered backoff expires a single probe request is admitted; its outcome closes or reopens the breaker.
+ */
+@NonNullByDefault
+final class RainbirdCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    enum Permit {
+        ALLOWED,
+        PROBE,
+        REJECTED
+    }
+
+    static final int DEFAULT_FAILURE_THRESHOLD = 2;
+    static final long DEFAULT_BASE_BACKOFF_MILLIS = 5000;
+    static final long DEFAULT_MAX_BACKOFF_MILLIS = 300000;
+
+    private final int failureThreshold;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    /** Monotonic milliseconds; a wall-clock step must not stretch or cut short the backoff. */
+    private final LongSupplier clock;
+    private final Random random;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int openCount;
+    private long retryAt;
+
+    RainbirdCircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_BASE_BACKOFF_MILLIS, DEFAULT_MAX_BACKOFF_MILLIS,
+                () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()), new Random());
+    }
+
+    RainbirdCircuitBreaker(int failureThreshold, long baseBackoffMillis, long maxBackoffMillis, LongSupplier clock,
+            Random random) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = Math.max(baseBackoffMillis, maxBackoffMillis);
+        this.clock = clock;
+        this.random = random;
+    }
+
+    /**
+     * Decide whether a request may be sent. Only requests flagged as probe-capable are admitted as the half-open
+     * probe, so recovery is tested with a cheap call.
+     */
+    synchronized Permit tryAcquire(boolean probeCapable) {
+        switch (state) {
+            case CLOSED:
+                return Permit.ALLOWED;
+            case OPEN:
+                if (probeCapable && clock.getAsLong() - retryAt >= 0) {
+                    state = State.HALF_OPEN;
+                    return Permit.PROBE;
+                }
+                return Permit.REJECTED;
+            default:
+                return Permit.REJECTED;
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        openCount = 0;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Milliseconds until the next probe is admitted, zero if requests pass.
+     */
+    synchronized long retryDelayMillis() {
+        if (state == State.CLOSED) {
+            return 0;
+        }
+        return Math.max(0, retryAt - clock.getAsLong());
+    }
+
+    private void open() {
+        long ceiling = baseBackoffMillis << Math.min(openCount, 20);
+        ceiling = Math.min(maxBackoffMillis, ceiling);
+        // Equal jitter: half the backoff is fixed, the other half random, so bridges do not probe in lockstep.
+        long half = ceiling / 2;
+        long delay = half + (half > 0 ? (long) (random.nextDouble() * half) : 0);
+        openCount++;
+        state = State.OPEN;
+        retryAt = clock.getAsLong() + delay;
+    }
+}
@@ -0,0 +1,28 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.io.IOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Raised without contacting the stick while the circuit breaker considers it unreachable.
+ */
+@NonNullByDefault
+public class RainbirdCircuitOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryDelayMillis;
+
+    public RainbirdCircuitOpenException(long retryDelayMillis) {
+        super("Rain Bird stick unreachable, next attempt in " + retryDelayMillis + " ms");
+        this.retryDelayMillis = retryDelayMillis;
+    }
+
+    /**
+     * Milliseconds until the breaker admits the next probe request.
+     */
+    public long getRetryDelayMillis() {
+        return retryDelayMillis;
+    }
+}
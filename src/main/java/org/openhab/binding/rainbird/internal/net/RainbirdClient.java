@@ -1,32 +1,35 @@
 package org.openhab.binding.rainbird.internal.net;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Locale;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.InflaterInputStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.rainbird.internal.config.RainbirdConfiguration;
 import org.openhab.binding.rainbird.internal.util.ModelInfoRegistry;
 import org.openhab.binding.rainbird.internal.util.ModelInfoRegistry.ModelInfo;
@@ -40,12 +43,21 @@ import org.slf4j.LoggerFactory;
 public class RainbirdClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RainbirdClient.class);
+    /** Upper bound of tunnelSip calls per batch so the stick's response buffer is not exceeded. */
+    private static final int MAX_BATCH_SIZE = 8;
+    /** First request of every poll, and by default the only one admitted as probe while the breaker is open. */
+    private static final String NETWORK_STATUS_METHOD = "getNetworkStatus";
+    /** Response opcode of the positive acknowledgement the stick sends for state-changing commands. */
+    private static final int ACK_RESPONSE = 0x01;
+    /** Response opcode of a rejected command. */
+    private static final int NAK_RESPONSE = 0x00;
+    /** Schedule edits do not show in the controller info page, so cached summaries expire after this age. */
+    private static final long SCHEDULE_MAX_AGE_NANOS = TimeUnit.HOURS.toNanos(12);
     private static final Map<String, String> RAINBIRD_APP_HEADERS;
 
     static {
         Map<String, String> headers = new LinkedHashMap<>();
         headers.put("Accept-Language", "en");
-        headers.put("Accept-Encoding", "gzip, deflate");
         headers.put("User-Agent", "RainBird/2.0 CFNetwork/811.5.4 Darwin/16.7.0");
         headers.put("Accept", "*/*");
         headers.put("Content-Type", "application/octet-stream");
@@ -54,13 +66,46 @@ public class RainbirdClient {
 
     private final RainbirdPayloadCoder coder;
     private final URI endpoint;
-    private final Duration requestTimeout;
+    /** Absent when every request uses the configured timeout. */
+    private final @Nullable RainbirdRttEstimator rttEstimator;
+    private final long timeoutMillis;
+    private final RainbirdHttpTransport transport;
+    /** Runs everything after the HTTP exchange, from the bookkeeping to decoding the poll result. */
+    private final Executor executor;
     private final AtomicLong requestId = new AtomicLong();
+    private final AtomicLong sentRequests = new AtomicLong();
+    private volatile BatchSupport batchSupport = BatchSupport.UNKNOWN;
+    private final RainbirdSingleFlight singleFlight = new RainbirdSingleFlight();
+    /** {@code null} if the breaker is disabled for this endpoint. */
+    private final @Nullable RainbirdCircuitBreaker circuitBreaker;
+    /** Blank if any request may serve as the half-open probe. */
+    private final String probeMethod;
+    private final RainbirdFlightRecorder flightRecorder = new RainbirdFlightRecorder();
+    /** Set while polls keep failing so the traffic dump is only logged once per outage. */
+    private final AtomicBoolean pollFailing = new AtomicBoolean();
+    /** Data of the last completed poll; tiers that are not refreshed are carried over from here. */
+    private volatile @Nullable PollProgress lastPoll;
+    private volatile @Nullable ScheduleCacheEntry scheduleCache;
 
-    public RainbirdClient(RainbirdConfiguration configuration) {
+    /**
+     * Create a client on a started {@link HttpClient}, which owns connections and I/O threads. Responses are
+     * decrypted, bound and decoded on {@code executor}, never on the HTTP client's threads.
+     */
+    public RainbirdClient(HttpClient httpClient, Executor executor, RainbirdConfiguration configuration) {
+        this(httpClient, executor, configuration, configuration.circuitBreaker ? new RainbirdCircuitBreaker() : null);
+    }
+
+    RainbirdClient(HttpClient httpClient, Executor executor, RainbirdConfiguration configuration,
+            @Nullable RainbirdCircuitBreaker circuitBreaker) {
+        this.executor = executor;
+        this.circuitBreaker = circuitBreaker;
+        String configuredProbe = configuration.probeMethod;
+        this.probeMethod = configuredProbe != null ? configuredProbe.trim() : "";
         this.coder = new RainbirdPayloadCoder(configuration.password);
-        this.requestTimeout = resolveTimeout(configuration);
+        this.timeoutMillis = resolveTimeout(configuration).toMillis();
+        this.rttEstimator = configuration.adaptiveTimeout ? new RainbirdRttEstimator(timeoutMillis) : null;
         this.endpoint = buildEndpoint(configuration);
+        this.transport = new RainbirdHttpTransport(httpClient, endpoint, RAINBIRD_APP_HEADERS);
     }
 
     private static Duration resolveTimeout(RainbirdConfiguration configuration) {
@@ -94,56 +139,173 @@ public class RainbirdClient {
         }
     }
 
+    /**
+     * Abort requests still in flight. The client must not be used afterwards.
+     */
+    public void close() {
+        transport.close();
+    }
+
     /**
      * Poll the controller for its current status, programs and zone state.
      */
     public PollingResult poll() throws IOException, InterruptedException {
-        Map<String, Object> networkPayload = invoke("getNetworkStatus", Map.of());
-        NetworkStatus networkStatus = new NetworkStatus(asBoolean(networkPayload.get("networkUp")),
-                asBoolean(networkPayload.get("internetUp")));
-
-        Map<String, Object> wifiPayload = invoke("getWifiParams", Map.of());
-        WifiStatus wifiStatus = decodeWifiStatus(wifiPayload);
+        return RainbirdFutures.await(pollAsync());
+    }
 
-        Map<String, Object> settingsPayload = invoke("getSettings", Map.of());
-        int programCount = asInt(settingsPayload.get("numPrograms"), 0);
+    /**
+     * Asynchronously poll the controller. The request sequence runs on the client's executor and never blocks the
+     * caller.
+     */
+    public CompletableFuture<PollingResult> pollAsync() {
+        return pollAsync(EnumSet.allOf(PollTier.class));
+    }
 
-        AvailableStationsData stations = sendCommand(StickCommand.AVAILABLE_STATIONS, RainbirdClient::decodeAvailableStations,
-                Integer.valueOf(0));
-        CombinedState combinedState = sendCommand(StickCommand.COMBINED_CONTROLLER_STATE,
-                RainbirdClient::decodeCombinedControllerState);
+    /**
+     * Poll only the given tiers; data of the other tiers is taken from the last poll. The fast tier is always
+     * included. All tiers are fetched until a first poll has completed, and the medium tier is added while the
+     * circuit breaker waits for its probe request.
+     */
+    public CompletableFuture<PollingResult> pollAsync(Set<PollTier> tiers) {
+        EnumSet<PollTier> plan = EnumSet.of(PollTier.FAST);
+        plan.addAll(tiers);
+        PollProgress previous = lastPoll;
+        if (previous == null) {
+            plan = EnumSet.allOf(PollTier.class);
+        } else if (breakerState() != RainbirdCircuitBreaker.State.CLOSED) {
+            plan.add(PollTier.MEDIUM);
+        }
+        EnumSet<PollTier> effectivePlan = plan;
+        // Concurrent pollers (bridge and zone handlers) share one request sequence.
+        return singleFlight.execute("poll " + effectivePlan,
+                () -> startPoll(effectivePlan, previous).whenComplete((result, error) -> {
+            if (error == null) {
+                pollFailing.set(false);
+                return;
+            }
+            Throwable cause = RainbirdFutures.unwrap(error);
+            if (!(cause instanceof RainbirdCircuitOpenException) && pollFailing.compareAndSet(false, true)) {
+                // The dump holds decrypted payloads, so it stays out of the default log.
+                LOGGER.info("Rain Bird poll of {} failed: {}", endpoint, cause.toString());
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Recent traffic with {}:\n{}", endpoint, dumpTraffic());
+                }
+            }
+        }).thenApply(PollProgress::toResult));
+    }
 
-        List<String> scheduleSummaries = fetchScheduleSummaries(programCount, stations);
+    /**
+     * Human readable dump of the most recent exchanges with the stick, oldest first. Payloads are decrypted and
+     * formatted only here; recording itself just copies the wire bytes.
+     */
+    public String dumpTraffic() {
+        StringBuilder dump = new StringBuilder();
+        for (RainbirdFlightRecorder.Exchange exchange : flightRecorder.snapshot()) {
+            dump.append('#').append(exchange.getSequence()).append(' ')
+                    .append(Instant.ofEpochMilli(exchange.getTimestampMillis())).append(' ')
+                    .append(exchange.getMethod()).append(": ").append(exchange.getRequestLength()).append(" B");
+            long latency = TimeUnit.NANOSECONDS.toMillis(exchange.getLatencyNanos());
+            Throwable failure = exchange.getFailure();
+            if (failure != null) {
+                Throwable cause = RainbirdFutures.unwrap(failure);
+                dump.append(" failed after ").append(latency).append(" ms: ").append(cause.getClass().getSimpleName())
+                        .append(' ').append(cause.getMessage());
+            } else {
+                dump.append(" -> ").append(exchange.getResponseLength()).append(" B in ").append(latency)
+                        .append(" ms");
+            }
+            dump.append('\n');
+            appendPayload(dump, "  > ", exchange.getRequest(), exchange.getRequestLength());
+            byte[] response = exchange.getResponse();
+            if (response != null) {
+                appendPayload(dump, "  < ", response, exchange.getResponseLength());
+            }
+        }
+        return dump.toString();
+    }
 
-        ControllerStatus controllerStatus = new ControllerStatus(networkStatus, wifiStatus, combinedState, Instant.now());
-        ProgramStatus programStatus = new ProgramStatus(programCount, scheduleSummaries);
-        ZoneStatus zoneStatus = new ZoneStatus(stations.activeZones(), stations.slotCount(), combinedState.getActiveStation(),
-                combinedState.getRemainingRuntime());
+    private void appendPayload(StringBuilder dump, String prefix, byte[] captured, int length) {
+        if (captured.length == length) {
+            try {
+                dump.append(prefix).append(coder.toText(captured)).append('\n');
+                return;
+            } catch (IOException e) {
+                // Not a complete envelope, show the raw bytes instead.
+            }
+        }
+        dump.append(prefix).append("raw, ").append(captured.length).append(" of ").append(length).append(" B\n")
+                .append(toHexDump(ByteBuffer.wrap(captured)));
+    }
 
-        return new PollingResult(controllerStatus, programStatus, zoneStatus);
+    private CompletableFuture<PollProgress> startPoll(Set<PollTier> plan, @Nullable PollProgress previous) {
+        PollProgress progress = new PollProgress(previous);
+        CompletableFuture<?> chain = CompletableFuture.completedFuture(null);
+        if (plan.contains(PollTier.MEDIUM)) {
+            chain = chain
+                    .thenCompose(ignored -> invokeAsync(NETWORK_STATUS_METHOD, Map.of(),
+                            RainbirdClient::bindNetworkStatus))
+                    .thenCompose(networkStatus -> {
+                        progress.networkStatus = networkStatus;
+                        return invokeAsync("getWifiParams", Map.of(), RainbirdClient::bindWifiStatus);
+                    }).thenAccept(wifiStatus -> progress.wifiStatus = wifiStatus);
+        }
+        if (plan.contains(PollTier.SLOW)) {
+            chain = chain.thenCompose(ignored -> invokeAsync("getSettings", Map.of(), RainbirdClient::bindProgramCount))
+                    .thenCompose(programCount -> {
+                        progress.programCount = programCount.intValue();
+                        return sendCommandAsync(StickCommand.AVAILABLE_STATIONS,
+                                StickCommand.AVAILABLE_STATIONS.encode(0), RainbirdClient::decodeAvailableStations);
+                    }).thenAccept(stations -> progress.stations = stations);
+        }
+        chain = chain.thenCompose(ignored -> sendCommandAsync(StickCommand.COMBINED_CONTROLLER_STATE,
+                StickCommand.COMBINED_CONTROLLER_STATE.encode(), RainbirdClient::decodeCombinedControllerState))
+                .thenAccept(combinedState -> progress.combinedState = combinedState);
+        if (plan.contains(PollTier.SLOW)) {
+            chain = chain
+                    .thenCompose(ignored -> fetchScheduleSummariesAsync(progress.controllerIdentity(),
+                            progress.programCount, progress.requireStations()))
+                    .thenAccept(summaries -> progress.scheduleSummaries = summaries);
+        }
+        return chain.thenApply(ignored -> {
+            lastPoll = progress;
+            return progress;
+        });
     }
 
     /**
      * Retrieve the controller model and protocol version.
      */
     public ModelAndVersion getModelAndVersion() throws IOException, InterruptedException {
-        return sendCommand(StickCommand.MODEL_AND_VERSION, RainbirdClient::decodeModelAndVersion);
+        return RainbirdFutures.await(getModelAndVersionAsync());
+    }
+
+    public CompletableFuture<ModelAndVersion> getModelAndVersionAsync() {
+        return sendCommandAsync(StickCommand.MODEL_AND_VERSION, StickCommand.MODEL_AND_VERSION.encode(),
+                RainbirdClient::decodeModelAndVersion);
     }
 
     /**
      * Retrieve the controller firmware version.
      */
     public ControllerFirmwareVersion getControllerFirmwareVersion() throws IOException, InterruptedException {
-        return sendCommand(StickCommand.CONTROLLER_FIRMWARE_VERSION,
-                RainbirdClient::decodeControllerFirmwareVersion);
+        return RainbirdFutures.await(getControllerFirmwareVersionAsync());
+    }
+
+    public CompletableFuture<ControllerFirmwareVersion> getControllerFirmwareVersionAsync() {
+        return sendCommandAsync(StickCommand.CONTROLLER_FIRMWARE_VERSION,
+                StickCommand.CONTROLLER_FIRMWARE_VERSION.encode(), RainbirdClient::decodeControllerFirmwareVersion);
     }
 
     /**
      * Retrieve the configured zip code and country.
      */
     public ZipCodeInfo getZipCode() throws IOException, InterruptedException {
-        Map<String, Object> response = invoke("getZipCode", Map.of());
-        return decodeZipCode(response);
+        return RainbirdFutures.await(getZipCodeAsync());
+    }
+
+    public CompletableFuture<ZipCodeInfo> getZipCodeAsync() {
+        return singleFlight.execute("getZipCode",
+                () -> invokeAsync("getZipCode", Map.of(), RainbirdClient::bindZipCode));
     }
 
     /**
@@ -151,50 +313,57 @@ public class RainbirdClient {
      */
     public WeatherStatus getWeatherAndStatus(String stickId, String country, String zipCode)
             throws IOException, InterruptedException {
+        return RainbirdFutures.await(getWeatherAndStatusAsync(stickId, country, zipCode));
+    }
+
+    public CompletableFuture<WeatherStatus> getWeatherAndStatusAsync(String stickId, String country, String zipCode) {
         Map<String, Object> params = new LinkedHashMap<>();
         params.put("StickId", stickId);
         params.put("Country", country);
         params.put("ZipCode", zipCode);
-        Map<String, Object> response = invoke("requestWeatherAndStatus", params);
-        return decodeWeatherStatus(response);
+        return singleFlight.execute("requestWeatherAndStatus " + params,
+                () -> invokeAsync("requestWeatherAndStatus", params, RainbirdClient::bindWeatherStatus));
     }
 
     /**
      * Run a stored irrigation program.
      */
     public RainbirdCommandResult runProgram(int programIndex) {
+        return awaitCommand(runProgramAsync(programIndex), StickCommand.MANUALLY_RUN_PROGRAM);
+    }
+
+    public CompletableFuture<RainbirdCommandResult> runProgramAsync(int programIndex) {
         if (programIndex < 0 || programIndex > 255) {
-            return failureResult(StickCommand.MANUALLY_RUN_PROGRAM);
-        }
-        try {
-            return sendCommand(StickCommand.MANUALLY_RUN_PROGRAM, RainbirdClient::decodeCommandResult,
-                    Integer.valueOf(programIndex));
-        } catch (IOException e) {
-            LOGGER.warn("Error starting program {}", Integer.valueOf(programIndex), e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        return failureResult(StickCommand.MANUALLY_RUN_PROGRAM);
+            return CompletableFuture.completedFuture(failureResult(StickCommand.MANUALLY_RUN_PROGRAM));
+        }
+        return sendCommandAsync(StickCommand.MANUALLY_RUN_PROGRAM,
+                StickCommand.MANUALLY_RUN_PROGRAM.encode(programIndex), RainbirdClient::decodeCommandResult)
+                .exceptionally(error -> {
+                    LOGGER.warn("Error starting program {}", Integer.valueOf(programIndex),
+                            RainbirdFutures.unwrap(error));
+                    return failureResult(StickCommand.MANUALLY_RUN_PROGRAM);
+                });
     }
 
     /**
      * Run a single irrigation zone for the supplied number of minutes.
      */
     public RainbirdCommandResult runStation(int zone, int durationMinutes) {
+        return awaitCommand(runStationAsync(zone, durationMinutes), StickCommand.MANUALLY_RUN_STATION);
+    }
+
+    public CompletableFuture<RainbirdCommandResult> runStationAsync(int zone, int durationMinutes) {
         if (zone <= 0) {
-            return failureResult(StickCommand.MANUALLY_RUN_STATION);
+            return CompletableFuture.completedFuture(failureResult(StickCommand.MANUALLY_RUN_STATION));
         }
         int safeZone = Math.max(0, Math.min(65535, zone));
         int safeDuration = Math.max(1, Math.min(255, durationMinutes));
-        try {
-            return sendCommand(StickCommand.MANUALLY_RUN_STATION, RainbirdClient::decodeCommandResult,
-                    Integer.valueOf(safeZone), Integer.valueOf(safeDuration));
-        } catch (IOException e) {
-            LOGGER.warn("Error starting zone {}", Integer.valueOf(zone), e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        return failureResult(StickCommand.MANUALLY_RUN_STATION);
+        return sendCommandAsync(StickCommand.MANUALLY_RUN_STATION,
+                StickCommand.MANUALLY_RUN_STATION.encode(safeZone, safeDuration), RainbirdClient::decodeCommandResult)
+                .exceptionally(error -> {
+                    LOGGER.warn("Error starting zone {}", Integer.valueOf(zone), RainbirdFutures.unwrap(error));
+                    return failureResult(StickCommand.MANUALLY_RUN_STATION);
+                });
     }
 
     /**
@@ -218,87 +387,302 @@ public class RainbirdClient {
      * Stop all irrigation immediately.
      */
     public RainbirdCommandResult stopAllZones() {
+        return awaitCommand(stopAllZonesAsync(), StickCommand.STOP_IRRIGATION);
+    }
+
+    public CompletableFuture<RainbirdCommandResult> stopAllZonesAsync() {
+        return sendCommandAsync(StickCommand.STOP_IRRIGATION, StickCommand.STOP_IRRIGATION.encode(),
+                RainbirdClient::decodeCommandResult)
+                .exceptionally(error -> {
+                    LOGGER.warn("Error stopping irrigation", RainbirdFutures.unwrap(error));
+                    return failureResult(StickCommand.STOP_IRRIGATION);
+                });
+    }
+
+    /**
+     * Send a single JSON-RPC call and bind its {@code result} member with {@code binder}.
+     */
+    protected <T> CompletableFuture<T> invokeAsync(String method, Map<String, Object> params,
+            RainbirdResultBinder<T> binder) {
+        Map<String, Object> payload;
+        byte[] body;
         try {
-            return sendCommand(StickCommand.STOP_IRRIGATION, RainbirdClient::decodeCommandResult);
+            payload = RainbirdPayloadCoder.requestPayload(nextRequestId(), method, new LinkedHashMap<>(params));
+            body = coder.encode(payload);
         } catch (IOException e) {
-            LOGGER.warn("Error stopping irrigation", e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
         }
-        return failureResult(StickCommand.STOP_IRRIGATION);
-    }
-
-    protected Map<String, Object> invoke(String method, Map<String, Object> params)
-            throws IOException, InterruptedException {
-        Map<String, Object> payload = RainbirdPayloadCoder.requestPayload(nextRequestId(), method,
-                new LinkedHashMap<>(params));
-        byte[] body = coder.encode(payload);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Sending Rain Bird request '{}' to {} with payload {}", method, endpoint, payload);
         }
-        byte[] responseBody = sendRequest(body);
-        Map<String, Object> envelope = coder.decode(responseBody);
+        boolean idempotent = isIdempotent(method, params);
+        return sendRequestAsync(timingKey(method, params), body, idempotent).thenApply(responseBody -> {
+            try {
+                RainbirdJsonReader reader = coder.reader(responseBody);
+                return readEnvelope(reader, binder).require();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } finally {
+                RainbirdBufferPool.release(responseBody);
+            }
+        });
+    }
+
+    /**
+     * Invoke the same method with several parameter sets. Calls are sent as a JSON-RPC batch array when the stick
+     * supports it, otherwise one after another. Results are returned in request order.
+     */
+    protected <T> CompletableFuture<List<T>> invokeBatchAsync(String method, List<Map<String, Object>> paramsList,
+            RainbirdResultBinder<T> binder) {
+        if (paramsList.size() < 2 || batchSupport == BatchSupport.UNSUPPORTED) {
+            return invokeSequentialAsync(method, paramsList, binder);
+        }
+        List<Long> ids = new ArrayList<>(paramsList.size());
+        List<Map<String, Object>> payloads = new ArrayList<>(paramsList.size());
+        byte[] body;
+        try {
+            for (Map<String, Object> params : paramsList) {
+                long id = nextRequestId();
+                ids.add(Long.valueOf(id));
+                payloads.add(RainbirdPayloadCoder.requestPayload(id, method, new LinkedHashMap<>(params)));
+            }
+            body = coder.encodeBatch(payloads);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Rain Bird response for '{}' from {}: {}", method, endpoint, envelope);
+            LOGGER.debug("Sending Rain Bird batch of {} '{}' requests to {}", Integer.valueOf(payloads.size()),
+                    method, endpoint);
+        }
+        boolean probing = batchSupport == BatchSupport.UNKNOWN;
+        String timingKey = timingKey(method, paramsList.get(0)) + " x" + paramsList.size();
+        boolean idempotent = paramsList.stream().allMatch(params -> isIdempotent(method, params));
+        return sendRequestAsync(timingKey, body, idempotent).thenApply(responseBody -> {
+            try {
+                return readBatch(coder.reader(responseBody), ids, binder);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } finally {
+                RainbirdBufferPool.release(responseBody);
+            }
+        }).handle((results, error) -> {
+            if (error == null) {
+                if (probing) {
+                    LOGGER.debug("Rain Bird stick at {} accepts JSON-RPC batches", endpoint);
+                    batchSupport = BatchSupport.SUPPORTED;
+                }
+                return CompletableFuture.completedFuture(results);
+            }
+            if (!probing) {
+                return RainbirdFutures.<List<T>> failed(error);
+            }
+            Throwable cause = RainbirdFutures.unwrap(error);
+            if (cause instanceof BatchRejectedException) {
+                LOGGER.debug("Rain Bird stick at {} rejected a JSON-RPC batch, falling back to single requests: {}",
+                        endpoint, cause.getMessage());
+                batchSupport = BatchSupport.UNSUPPORTED;
+            } else {
+                // A timeout or a failed page says nothing about batch support; probe again on the next call.
+                LOGGER.debug("Rain Bird batch probe to {} failed, using single requests for this call: {}", endpoint,
+                        cause.getMessage());
+            }
+            return invokeSequentialAsync(method, paramsList, binder);
+        }).thenCompose(future -> future);
+    }
+
+    private <T> CompletableFuture<List<T>> invokeSequentialAsync(String method, List<Map<String, Object>> paramsList,
+            RainbirdResultBinder<T> binder) {
+        List<T> results = new ArrayList<>(paramsList.size());
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (Map<String, Object> params : paramsList) {
+            chain = chain.thenCompose(ignored -> invokeAsync(method, params, binder)).thenAccept(results::add);
         }
-        Object error = envelope.get("error");
-        if (error instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> errorMap = (Map<String, Object>) error;
-            throw new IOException("Rain Bird responded with an error: " + errorMap.get("message"));
+        return chain.thenApply(ignored -> results);
+    }
+
+    private static <T> List<T> readBatch(RainbirdJsonReader reader, List<Long> ids, RainbirdResultBinder<T> binder)
+            throws IOException {
+        if (reader.peek() != RainbirdJsonReader.Token.BEGIN_ARRAY) {
+            throw new BatchRejectedException("Rain Bird batch response is not an array");
+        }
+        Map<Long, Envelope<T>> byId = new HashMap<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() != RainbirdJsonReader.Token.BEGIN_OBJECT) {
+                throw new BatchRejectedException("Rain Bird batch response contains a non-object entry");
+            }
+            Envelope<T> envelope = readEnvelope(reader, binder);
+            byId.put(Long.valueOf(envelope.id), envelope);
+        }
+        reader.endArray();
+        List<Envelope<T>> envelopes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Envelope<T> envelope = byId.get(id);
+            if (envelope == null) {
+                throw new BatchRejectedException("Rain Bird batch response is missing id " + id);
+            }
+            envelopes.add(envelope);
         }
-        Object result = envelope.get("result");
-        if (!(result instanceof Map)) {
-            throw new IOException("Unexpected Rain Bird response payload");
+        // Only a complete array counts as batch support; an error entry is a single failed page.
+        List<T> results = new ArrayList<>(ids.size());
+        for (Envelope<T> envelope : envelopes) {
+            results.add(envelope.require());
         }
-        @SuppressWarnings("unchecked")
-        Map<String, Object> responseMap = (Map<String, Object>) result;
-        return responseMap;
+        return results;
     }
 
-    private byte[] sendRequest(byte[] body) throws IOException {
-        HttpURLConnection connection = openConnection();
-        try {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Rain Bird HTTP POST {} ({} bytes)", connection.getURL(), Integer.valueOf(body.length));
+    /**
+     * Walk one JSON-RPC envelope. Only the {@code result} member is bound; everything else apart from the id and an
+     * error message is skipped without being materialised.
+     */
+    private static <T> Envelope<T> readEnvelope(RainbirdJsonReader reader, RainbirdResultBinder<T> binder)
+            throws IOException {
+        Envelope<T> envelope = new Envelope<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            RainbirdJsonReader.Token token = reader.peek();
+            if ("result".equals(name) && token == RainbirdJsonReader.Token.BEGIN_OBJECT) {
+                envelope.result = binder.bind(reader);
+            } else if ("error".equals(name) && token == RainbirdJsonReader.Token.BEGIN_OBJECT) {
+                envelope.error = readErrorMessage(reader);
+                envelope.failed = true;
+            } else if ("id".equals(name) && token == RainbirdJsonReader.Token.NUMBER) {
+                envelope.id = reader.nextLong();
+            } else {
+                reader.skipValue();
             }
-            connection.setFixedLengthStreamingMode(body.length);
-            try (OutputStream output = connection.getOutputStream()) {
-                output.write(body);
+        }
+        reader.endObject();
+        return envelope;
+    }
+
+    private static @Nullable String readErrorMessage(RainbirdJsonReader reader) throws IOException {
+        @Nullable String message = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("message".equals(reader.nextName()) && reader.peek() == RainbirdJsonReader.Token.STRING) {
+                message = reader.nextString();
+            } else {
+                reader.skipValue();
             }
-            int status = connection.getResponseCode();
-            byte[] response = readResponse(connection, status);
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Rain Bird HTTP response {} {} from {}:\n{}",
-                        Integer.valueOf(status), connection.getResponseMessage(), connection.getURL(),
-                        toHexDump(response));
+        }
+        reader.endObject();
+        return message;
+    }
+
+    BatchSupport getBatchSupport() {
+        return batchSupport;
+    }
+
+    /**
+     * Cached schedule summaries together with the change signal they were read under, or {@code null} before the
+     * first complete schedule read.
+     */
+    public @Nullable ScheduleSnapshot getScheduleSnapshot() {
+        ScheduleCacheEntry cached = scheduleCache;
+        if (cached == null) {
+            return null;
+        }
+        Instant fetchedAt = Instant.now().minusNanos(System.nanoTime() - cached.fetchedNanos);
+        return new ScheduleSnapshot(cached.identity, cached.fingerprint, cached.summaries, fetchedAt);
+    }
+
+    /**
+     * Seed the schedule cache, e.g. from a persisted snapshot. The next poll still reads the controller info page and
+     * only re-reads the schedule if it changed; the snapshot keeps its original age, so a stale one is refetched.
+     */
+    public void restoreScheduleSnapshot(ScheduleSnapshot snapshot) {
+        long ageMillis = Math.max(0, Duration.between(snapshot.getFetchedAt(), Instant.now()).toMillis());
+        // Capped so the subtraction below cannot wrap for snapshots from a badly set clock.
+        long ageNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(ageMillis), SCHEDULE_MAX_AGE_NANOS);
+        scheduleCache = new ScheduleCacheEntry(snapshot.getIdentity(), snapshot.getFingerprint(),
+                snapshot.getSummaries(), System.nanoTime() - ageNanos);
+    }
+
+    /**
+     * Number of HTTP requests actually sent to the stick; requests rejected by the circuit breaker are not counted.
+     */
+    public long getSentRequestCount() {
+        return sentRequests.get();
+    }
+
+    private RainbirdCircuitBreaker.State breakerState() {
+        RainbirdCircuitBreaker breaker = circuitBreaker;
+        return breaker != null ? breaker.getState() : RainbirdCircuitBreaker.State.CLOSED;
+    }
+
+    private CompletableFuture<ByteBuffer> sendRequestAsync(String timingKey, byte[] body, boolean idempotent) {
+        RainbirdCircuitBreaker breaker = circuitBreaker;
+        RainbirdCircuitBreaker.Permit permit = breaker == null ? RainbirdCircuitBreaker.Permit.ALLOWED
+                : breaker.tryAcquire(probeMethod.isEmpty() || probeMethod.equals(timingKey));
+        if (permit == RainbirdCircuitBreaker.Permit.REJECTED) {
+            return CompletableFuture.failedFuture(new RainbirdCircuitOpenException(breaker.retryDelayMillis()));
+        }
+        if (permit == RainbirdCircuitBreaker.Permit.PROBE) {
+            LOGGER.debug("Probing Rain Bird stick at {} after outage", endpoint);
+        }
+        RainbirdRttEstimator estimator = rttEstimator;
+        long timeout = estimator != null ? estimator.timeoutMillis(timingKey) : timeoutMillis;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Rain Bird HTTP POST {} ({} bytes, timeout {} ms)", endpoint, Integer.valueOf(body.length),
+                    Long.valueOf(timeout));
+        }
+        sentRequests.incrementAndGet();
+        long started = System.nanoTime();
+        // Leave the HTTP client's thread right away; every later stage of the chain runs on the executor.
+        return transport.postAsync(body, toTimeoutMillis(timeout), idempotent).whenCompleteAsync((response, error) -> {
+            long elapsed = System.nanoTime() - started;
+            // The response is still encrypted here; decoding in place happens further down the chain.
+            flightRecorder.record(timingKey, body, response, elapsed, error);
+            if (error == null) {
+                if (breaker != null) {
+                    breaker.onSuccess();
+                }
+                if (estimator != null) {
+                    estimator.recordSample(timingKey, TimeUnit.NANOSECONDS.toMillis(elapsed));
+                }
+                return;
+            }
+            Throwable cause = RainbirdFutures.unwrap(error);
+            if (breaker != null) {
+                // An HTTP error status still proves the stick is reachable; only connect, I/O and timeouts count.
+                if (cause instanceof RainbirdHttpStatusException) {
+                    breaker.onSuccess();
+                } else {
+                    breaker.onFailure();
+                }
             }
-            if (status >= 400) {
-                throw new IOException("Unexpected HTTP status " + status + " from Rain Bird controller");
+            if (estimator != null && cause instanceof SocketTimeoutException) {
+                estimator.recordTimeout(timingKey);
             }
-            return response;
-        } finally {
-            connection.disconnect();
+        }, executor);
+    }
+
+    /**
+     * RTT samples are kept per request kind: the JSON-RPC method, or the SIP command code for tunnelled calls.
+     */
+    private static String timingKey(String method, Map<String, Object> params) {
+        Object data = params.get("data");
+        if ("tunnelSip".equals(method) && data instanceof String && ((String) data).length() >= 2) {
+            return method + " " + ((String) data).substring(0, 2);
         }
+        return method;
     }
 
-    private HttpURLConnection openConnection() throws IOException {
-        URL url = endpoint.toURL();
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        int timeout = toTimeoutMillis(requestTimeout);
-        connection.setConnectTimeout(timeout);
-        connection.setReadTimeout(timeout);
-        connection.setInstanceFollowRedirects(false);
-        connection.setDoOutput(true);
-        connection.setDoInput(true);
-        connection.setRequestMethod("POST");
-        connection.setUseCaches(false);
-        RAINBIRD_APP_HEADERS.forEach(connection::setRequestProperty);
-        return connection;
+    /**
+     * Whether a call may be replayed after a dead pooled connection. The plain JSON-RPC methods only read; tunnelled
+     * frames are safe only for query commands.
+     */
+    private static boolean isIdempotent(String method, Map<String, Object> params) {
+        if (!"tunnelSip".equals(method)) {
+            return true;
+        }
+        Object data = params.get("data");
+        return data instanceof String && StickCommand.isQuery((String) data);
     }
 
-    private static int toTimeoutMillis(Duration timeout) {
-        long millis = timeout.toMillis();
+    private static int toTimeoutMillis(long millis) {
         if (millis > Integer.MAX_VALUE) {
             return Integer.MAX_VALUE;
         }
@@ -308,67 +692,161 @@ public class RainbirdClient {
         return (int) millis;
     }
 
-    private byte[] readResponse(HttpURLConnection connection, int status) throws IOException {
-        InputStream responseStream = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
-        if (responseStream == null) {
-            return new byte[0];
-        }
-        try (InputStream stream = wrapContentStream(responseStream, connection.getContentEncoding())) {
-            return stream.readAllBytes();
+    private <T> CompletableFuture<T> sendCommandAsync(StickCommand command, String payload, SipDecoder<T> decoder) {
+        if (command.query) {
+            return singleFlight.execute("tunnelSip " + payload, () -> tunnelAsync(command, payload, decoder));
         }
+        return tunnelAsync(command, payload, decoder);
     }
 
-    private InputStream wrapContentStream(InputStream stream, @Nullable String encoding) throws IOException {
-        if (encoding == null) {
-            return stream;
+    private <T> CompletableFuture<T> tunnelAsync(StickCommand command, String payload, SipDecoder<T> decoder) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("data", payload);
+        params.put("length", Integer.valueOf(command.length));
+        return invokeAsync("tunnelSip", params, RainbirdClient::bindTunnelData).thenApply(data -> {
+            try {
+                return decodeTunnelData(command, decoder, data);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private static <T> T decodeTunnelData(StickCommand command, SipDecoder<T> decoder, String data)
+            throws IOException {
+        RainbirdSipFrame frame = RainbirdSipFrame.parse(data);
+        if (frame.length() < 1) {
+            throw new IOException("Rain Bird tunnel response malformed");
         }
-        String normalized = encoding.trim().toLowerCase(Locale.ROOT);
-        if (normalized.contains("gzip")) {
-            return new GZIPInputStream(stream);
+        return decoder.decode(command, frame);
+    }
+
+    private <T> CompletableFuture<List<T>> sendCommandBatchAsync(StickCommand command, List<String> payloads,
+            SipDecoder<T> decoder) {
+        List<Map<String, Object>> paramsList = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("data", payload);
+            params.put("length", Integer.valueOf(command.length));
+            paramsList.add(params);
+        }
+        return invokeBatchAsync("tunnelSip", paramsList, RainbirdClient::bindTunnelData).thenApply(responses -> {
+            List<T> decoded = new ArrayList<>(responses.size());
+            try {
+                for (String response : responses) {
+                    decoded.add(decodeTunnelData(command, decoder, response));
+                }
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+            return decoded;
+        });
+    }
+
+    private static RainbirdCommandResult awaitCommand(CompletableFuture<RainbirdCommandResult> future,
+            StickCommand command) {
+        try {
+            return RainbirdFutures.await(future);
+        } catch (IOException e) {
+            LOGGER.warn("Error sending {}", command, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        if (normalized.contains("deflate")) {
-            return new InflaterInputStream(stream);
+        return failureResult(command);
+    }
+
+    private static NetworkStatus bindNetworkStatus(RainbirdJsonReader reader) throws IOException {
+        boolean networkUp = false;
+        boolean internetUp = false;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "networkUp":
+                    networkUp = readBoolean(reader);
+                    break;
+                case "internetUp":
+                    internetUp = readBoolean(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
         }
-        return stream;
+        reader.endObject();
+        return new NetworkStatus(networkUp, internetUp);
     }
 
-    private <T> T sendCommand(StickCommand command, SipDecoder<T> decoder, Object... args)
-            throws IOException, InterruptedException {
-        String payload = command.encode(args);
-        Map<String, Object> params = new LinkedHashMap<>();
-        params.put("data", payload);
-        params.put("length", Integer.valueOf(command.length));
-        Map<String, Object> response = invoke("tunnelSip", params);
-        Object encoded = response.get("data");
-        if (!(encoded instanceof String)) {
-            throw new IOException("Rain Bird tunnel response missing data field");
+    private static WifiStatus bindWifiStatus(RainbirdJsonReader reader) throws IOException {
+        int rssi = 0;
+        @Nullable String ssid = null;
+        @Nullable String mac = null;
+        @Nullable String firmware = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "rssi":
+                    rssi = readInt(reader, 0);
+                    break;
+                case "wifiSsid":
+                    ssid = readString(reader);
+                    break;
+                case "macAddress":
+                    mac = readString(reader);
+                    break;
+                case "stickVersion":
+                    firmware = readString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
         }
-        String data = (String) encoded;
-        if (data.length() < 2) {
-            throw new IOException("Rain Bird tunnel response malformed");
+        reader.endObject();
+        return new WifiStatus(rssi, ssid, mac, firmware);
+    }
+
+    private static Integer bindProgramCount(RainbirdJsonReader reader) throws IOException {
+        int programCount = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("numPrograms".equals(reader.nextName())) {
+                programCount = readInt(reader, 0);
+            } else {
+                reader.skipValue();
+            }
         }
-        return decoder.decode(command, data);
+        reader.endObject();
+        return Integer.valueOf(programCount);
     }
 
-    private static WifiStatus decodeWifiStatus(Map<String, Object> wifiParams) {
-        int rssi = asInt(wifiParams.get("rssi"), 0);
-        String ssid = asString(wifiParams.get("wifiSsid"));
-        String mac = asString(wifiParams.get("macAddress"));
-        String firmware = asString(wifiParams.get("stickVersion"));
-        return new WifiStatus(rssi, ssid, mac, firmware);
+    private static String bindTunnelData(RainbirdJsonReader reader) throws IOException {
+        @Nullable String data = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("data".equals(reader.nextName()) && reader.peek() == RainbirdJsonReader.Token.STRING) {
+                data = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (data == null) {
+            throw new IOException("Rain Bird tunnel response missing data field");
+        }
+        return data;
     }
 
-    private static AvailableStationsData decodeAvailableStations(StickCommand command, String data) throws IOException {
-        expectPrefix(command, data, "83");
-        if (data.length() < 12) {
+    private static AvailableStationsData decodeAvailableStations(StickCommand command, RainbirdSipFrame frame)
+            throws IOException {
+        expectPrefix(command, frame);
+        if (frame.length() < 6) {
             return new AvailableStationsData(Set.of(), 0);
         }
-        int page = safeParseHex(data, 2, 2);
-        String mask = data.substring(4);
+        int page = frame.u8(1);
         Set<Integer> active = new HashSet<>();
         int position = page * 8;
-        for (int i = 0; i + 2 <= mask.length(); i += 2) {
-            int current = safeParseHex(mask, i, 2);
+        for (int offset = 2; offset < frame.length(); offset++) {
+            int current = frame.u8(offset);
             for (int bit = 0; bit < 8; bit++) {
                 if ((current & (1 << bit)) != 0) {
                     active.add(position + bit + 1);
@@ -376,201 +854,251 @@ public class RainbirdClient {
             }
             position += 8;
         }
-        int slotCount = mask.length() * 4;
+        int slotCount = (frame.length() - 2) * 8;
         return new AvailableStationsData(active, slotCount);
     }
 
-    private static ModelAndVersion decodeModelAndVersion(StickCommand command, String data) throws IOException {
-        expectPrefix(command, data, "82");
-        if (data.length() < 10) {
+    private static ModelAndVersion decodeModelAndVersion(StickCommand command, RainbirdSipFrame frame)
+            throws IOException {
+        expectPrefix(command, frame);
+        if (frame.length() < 5) {
             throw new IOException("Model and version response too short");
         }
-        int modelId = parseHex(data, 2, 4);
-        int major = parseHex(data, 6, 2);
-        int minor = parseHex(data, 8, 2);
-        return new ModelAndVersion(modelId, major, minor);
+        return new ModelAndVersion(frame.u16(1), frame.u8(3), frame.u8(4));
     }
 
-    private static CombinedState decodeCombinedControllerState(StickCommand command, String data) throws IOException {
-        expectPrefix(command, data, "CC");
-        if (data.length() < 32) {
+    private static CombinedState decodeCombinedControllerState(StickCommand command, RainbirdSipFrame frame)
+            throws IOException {
+        expectPrefix(command, frame);
+        if (frame.length() < 16) {
             throw new IOException("Combined controller state response too short");
         }
-        int hour = parseHex(data, 2, 2);
-        int minute = parseHex(data, 4, 2);
-        int second = parseHex(data, 6, 2);
-        int day = parseHex(data, 8, 2);
-        int month = parseHex(data, 10, 1);
-        int year = parseHex(data, 11, 3);
-        int delaySetting = parseHex(data, 14, 4);
-        int sensorState = parseHex(data, 18, 2);
-        int irrigationState = parseHex(data, 20, 2);
-        int seasonalAdjust = parseHex(data, 22, 4);
-        int remainingRuntime = parseHex(data, 26, 4);
-        int activeStation = parseHex(data, 30, 2);
+        int hour = frame.u8(1);
+        int minute = frame.u8(2);
+        int second = frame.u8(3);
+        int day = frame.u8(4);
+        // Month and year share bytes 5 and 6: one nibble of month followed by twelve bits of year.
+        int month = frame.nibble(10);
+        int year = (frame.nibble(11) << 8) | frame.u8(6);
+        int delaySetting = frame.u16(7);
+        int sensorState = frame.u8(9);
+        int irrigationState = frame.u8(10);
+        int seasonalAdjust = frame.u16(11);
+        int remainingRuntime = frame.u16(13);
+        int activeStation = frame.u8(15);
         LocalDateTime controllerTime = safeControllerTime(year, month, day, hour, minute, second);
         return new CombinedState(delaySetting, sensorState, irrigationState, seasonalAdjust, remainingRuntime, activeStation,
                 controllerTime);
     }
 
-    private static ControllerFirmwareVersion decodeControllerFirmwareVersion(StickCommand command, String data)
-            throws IOException {
-        expectPrefix(command, data, "8B");
-        if (data.length() < 10) {
+    private static ControllerFirmwareVersion decodeControllerFirmwareVersion(StickCommand command,
+            RainbirdSipFrame frame) throws IOException {
+        expectPrefix(command, frame);
+        if (frame.length() < 5) {
             throw new IOException("Controller firmware response too short");
         }
-        int major = parseHex(data, 2, 2);
-        int minor = parseHex(data, 4, 2);
-        int patch = parseHex(data, 6, 4);
-        return new ControllerFirmwareVersion(major, minor, patch);
+        return new ControllerFirmwareVersion(frame.u8(1), frame.u8(2), frame.u16(3));
     }
 
-    private static RainbirdCommandResult decodeCommandResult(StickCommand command, String data) throws IOException {
-        if (data.length() < 4) {
-            LOGGER.debug("Truncated acknowledgement {} for {}", data, command);
+    private static RainbirdCommandResult decodeCommandResult(StickCommand command, RainbirdSipFrame frame)
+            throws IOException {
+        if (frame.length() < 2) {
+            LOGGER.debug("Truncated acknowledgement {} for {}", frame, command);
             return failureResult(command);
         }
-        String prefix = data.substring(0, 2);
-        if ("00".equals(prefix)) {
-            int echo = parseHex(data, 2, 2);
-            int nak = parseHex(data, 4, 2);
-            return new RainbirdCommandResult(false, echo, Integer.valueOf(nak));
+        int opcode = frame.opcode();
+        if (opcode == NAK_RESPONSE) {
+            return new RainbirdCommandResult(false, frame.u8(1), Integer.valueOf(frame.u8(2)));
         }
-        if ("01".equals(prefix)) {
-            int echo = parseHex(data, 2, 2);
-            return new RainbirdCommandResult(true, echo, null);
+        if (opcode == ACK_RESPONSE) {
+            return new RainbirdCommandResult(true, frame.u8(1), null);
         }
-        LOGGER.debug("Unexpected acknowledgement {} for {}", data, command);
+        LOGGER.debug("Unexpected acknowledgement {} for {}", frame, command);
         return failureResult(command);
     }
 
-    private static String decodeScheduleSegment(StickCommand command, String data) throws IOException {
-        if (data.startsWith("00")) {
-            throw new IOException("Rain Bird command was rejected for " + command.name());
-        }
-        expectPrefix(command, data, "A0");
-        return data;
+    private static RainbirdSipFrame decodeScheduleSegment(StickCommand command, RainbirdSipFrame frame)
+            throws IOException {
+        expectPrefix(command, frame);
+        return frame;
     }
 
-    private static ZipCodeInfo decodeZipCode(Map<String, Object> response) {
-        String country = asString(response.get("country"));
-        String code = asString(response.get("code"));
+    private static ZipCodeInfo bindZipCode(RainbirdJsonReader reader) throws IOException {
+        @Nullable String country = null;
+        @Nullable String code = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "country":
+                    country = readString(reader);
+                    break;
+                case "code":
+                    code = readString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
         return new ZipCodeInfo(code, country);
     }
 
-    private static WeatherStatus decodeWeatherStatus(Map<String, Object> response) {
-        String stickId = asString(response.get("StickId"));
-        @Nullable String controllerName = null;
+    private static WeatherStatus bindWeatherStatus(RainbirdJsonReader reader) throws IOException {
+        @Nullable String stickId = null;
+        @Nullable String customName = null;
+        @Nullable String legacyName = null;
         Map<Integer, String> stationNames = new LinkedHashMap<>();
-        Object controllerObject = response.get("Controller");
-        if (controllerObject instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> controller = (Map<String, Object>) controllerObject;
-            controllerName = asString(controller.get("custom_name"));
-            if (controllerName == null) {
-                controllerName = asString(controller.get("customName"));
-            }
-            Object namesObject = controller.get("customStationNames");
-            if (namesObject instanceof Map) {
-                @SuppressWarnings("unchecked")
-                Map<Object, Object> names = (Map<Object, Object>) namesObject;
-                for (Map.Entry<Object, Object> entry : names.entrySet()) {
-                    String key = asString(entry.getKey());
-                    String value = asString(entry.getValue());
-                    if (key == null || value == null) {
-                        continue;
-                    }
-                    try {
-                        int zone = Integer.parseInt(key);
-                        stationNames.put(Integer.valueOf(zone), value);
-                    } catch (NumberFormatException e) {
-                        LOGGER.debug("Ignoring invalid custom station key {}", key, e);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("StickId".equals(name)) {
+                stickId = readString(reader);
+            } else if ("Controller".equals(name) && reader.peek() == RainbirdJsonReader.Token.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "custom_name":
+                            customName = readString(reader);
+                            break;
+                        case "customName":
+                            legacyName = readString(reader);
+                            break;
+                        case "customStationNames":
+                            readStationNames(reader, stationNames);
+                            break;
+                        default:
+                            reader.skipValue();
+                            break;
                     }
                 }
+                reader.endObject();
+            } else {
+                reader.skipValue();
             }
         }
-        return new WeatherStatus(stickId, controllerName, stationNames);
+        reader.endObject();
+        return new WeatherStatus(stickId, customName != null ? customName : legacyName, stationNames);
     }
 
-    private List<String> fetchScheduleSummaries(int programCount, AvailableStationsData stations)
-            throws IOException, InterruptedException {
+    private static void readStationNames(RainbirdJsonReader reader, Map<Integer, String> stationNames)
+            throws IOException {
+        if (reader.peek() != RainbirdJsonReader.Token.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName().trim();
+            String value = readString(reader);
+            if (key.isEmpty() || value == null) {
+                continue;
+            }
+            try {
+                int zone = Integer.parseInt(key);
+                stationNames.put(Integer.valueOf(zone), value);
+            } catch (NumberFormatException e) {
+                LOGGER.debug("Ignoring invalid custom station key {}", key, e);
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Fetch the schedule summaries, reusing the cached ones while the controller info page, the program count and the
+     * available stations are unchanged and the cache is younger than {@link #SCHEDULE_MAX_AGE_NANOS}.
+     */
+    private CompletableFuture<List<String>> fetchScheduleSummariesAsync(String identity, int programCount,
+            AvailableStationsData stations) {
+        return sendCommandAsync(StickCommand.RETRIEVE_SCHEDULE, StickCommand.RETRIEVE_SCHEDULE.encode(0),
+                RainbirdClient::decodeScheduleSegment).thenCompose(controllerInfo -> {
+                    String fingerprint = controllerInfo + "/" + programCount + "/" + stations.slotCount() + "/"
+                            + new TreeSet<>(stations.activeZones());
+                    long now = System.nanoTime();
+                    ScheduleCacheEntry cached = scheduleCache;
+                    if (cached != null && cached.matches(identity, fingerprint, now)) {
+                        LOGGER.trace("Rain Bird schedule of {} unchanged, reusing cached summaries", identity);
+                        return CompletableFuture.completedFuture(cached.summaries);
+                    }
+                    return fetchSchedulePagesAsync(controllerInfo, programCount, stations).thenApply(summaries -> {
+                        scheduleCache = new ScheduleCacheEntry(identity, fingerprint, summaries, now);
+                        return summaries;
+                    });
+                });
+    }
+
+    private CompletableFuture<List<String>> fetchSchedulePagesAsync(RainbirdSipFrame controllerInfo,
+            int programCount, AvailableStationsData stations) {
         Set<Integer> activeZones = stations.activeZones();
-        List<String> responses = new ArrayList<>();
-        responses.add(sendCommand(StickCommand.RETRIEVE_SCHEDULE, RainbirdClient::decodeScheduleSegment, Integer.valueOf(0)));
+        List<Integer> pages = new ArrayList<>();
         for (int program = 0; program < programCount; program++) {
-            responses.add(sendCommand(StickCommand.RETRIEVE_SCHEDULE, RainbirdClient::decodeScheduleSegment,
-                    Integer.valueOf(0x10 | program)));
+            pages.add(Integer.valueOf(0x10 | program));
         }
         for (int program = 0; program < programCount; program++) {
-            responses.add(sendCommand(StickCommand.RETRIEVE_SCHEDULE, RainbirdClient::decodeScheduleSegment,
-                    Integer.valueOf(0x60 | program)));
+            pages.add(Integer.valueOf(0x60 | program));
         }
         int highestActive = activeZones.stream().mapToInt(Integer::intValue).max().orElse(0);
         int slotCount = stations.slotCount();
         int zoneLimit = highestActive > 0 ? highestActive : Math.min(slotCount, 22);
-        int pages = (zoneLimit + 1) / 2;
-        for (int page = 0; page < pages; page++) {
-            responses.add(sendCommand(StickCommand.RETRIEVE_SCHEDULE, RainbirdClient::decodeScheduleSegment,
-                    Integer.valueOf(0x80 | page)));
+        int zonePages = (zoneLimit + 1) / 2;
+        for (int page = 0; page < zonePages; page++) {
+            pages.add(Integer.valueOf(0x80 | page));
         }
+
+        // Pages are fetched in batches; the stick answers a batch in request order within one POST.
         RainbirdScheduleParser parser = new RainbirdScheduleParser(programCount, activeZones);
-        for (String response : responses) {
-            parser.accept(response);
+        parser.accept(controllerInfo);
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (int start = 0; start < pages.size(); start += MAX_BATCH_SIZE) {
+            List<String> batch = new ArrayList<>();
+            for (Integer page : pages.subList(start, Math.min(pages.size(), start + MAX_BATCH_SIZE))) {
+                batch.add(StickCommand.RETRIEVE_SCHEDULE.encode(page.intValue()));
+            }
+            chain = chain
+                    .thenCompose(ignored -> sendCommandBatchAsync(StickCommand.RETRIEVE_SCHEDULE, batch,
+                            RainbirdClient::decodeScheduleSegment))
+                    .thenAccept(segments -> segments.forEach(parser::accept));
         }
-        return parser.buildSummaries();
+        return chain.thenApply(ignored -> parser.buildSummaries());
     }
 
     private long nextRequestId() {
         return requestId.incrementAndGet();
     }
 
-    private static int asInt(@Nullable Object value, int defaultValue) {
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
+    private static int readInt(RainbirdJsonReader reader, int defaultValue) throws IOException {
+        if (reader.peekIntegral()) {
+            return reader.nextInt();
         }
+        if (reader.peek() == RainbirdJsonReader.Token.NUMBER) {
+            return reader.nextNumber().intValue();
+        }
+        reader.skipValue();
         return defaultValue;
     }
 
-    private static boolean asBoolean(@Nullable Object value) {
-        if (value instanceof Boolean) {
-            return ((Boolean) value).booleanValue();
-        } else if (value instanceof Number) {
-            return ((Number) value).intValue() != 0;
-        } else if (value instanceof String) {
-            String text = ((String) value).trim();
-            if (text.isEmpty()) {
+    private static boolean readBoolean(RainbirdJsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NUMBER:
+                return reader.nextNumber().intValue() != 0;
+            case STRING:
+                String text = reader.nextString().trim();
+                return "true".equalsIgnoreCase(text) || "1".equals(text);
+            default:
+                reader.skipValue();
                 return false;
-            }
-            // "true", "1" -> true
-            return "true".equalsIgnoreCase(text) || "1".equals(text);
         }
-        return false;
     }
 
-    private static @Nullable String asString(@Nullable Object value) {
-        if (value instanceof String) {
-            String text = ((String) value).trim();
-            return text.isEmpty() ? null : text;
-        }
-        return null;
-    }
-
-    private static int parseHex(String data, int position, int length) throws IOException {
-        int end = position + length;
-        if (position < 0 || end > data.length()) {
-            throw new IOException("Rain Bird tunnel response truncated");
-        }
-        return Integer.parseInt(data.substring(position, end), 16);
-    }
-
-    private static int safeParseHex(String data, int position, int length) {
-        try {
-            return parseHex(data, position, length);
-        } catch (IOException | NumberFormatException e) {
-            LOGGER.debug("Unable to parse field at {} with length {} from {}", Integer.valueOf(position),
-                    Integer.valueOf(length), data, e);
-            return 0;
+    private static @Nullable String readString(RainbirdJsonReader reader) throws IOException {
+        if (reader.peek() != RainbirdJsonReader.Token.STRING) {
+            reader.skipValue();
+            return null;
         }
+        String text = reader.nextString().trim();
+        return text.isEmpty() ? null : text;
     }
 
     private static LocalDateTime safeControllerTime(int year, int month, int day, int hour, int minute, int second) {
@@ -592,12 +1120,13 @@ public class RainbirdClient {
         return new RainbirdCommandResult(false, command.commandEcho(), null);
     }
 
-    private static void expectPrefix(StickCommand command, String data, String prefix) throws IOException {
-        if (!data.startsWith(prefix)) {
-            if (data.startsWith("00")) {
+    private static void expectPrefix(StickCommand command, RainbirdSipFrame frame) throws IOException {
+        int opcode = frame.opcode();
+        if (opcode != command.responseOpcode) {
+            if (opcode == NAK_RESPONSE) {
                 throw new IOException("Rain Bird command was rejected for " + command.name());
             }
-            throw new IOException("Unexpected response " + data + " for command " + command.name());
+            throw new IOException("Unexpected response " + frame + " for command " + command.name());
         }
     }
 
@@ -921,6 +1450,38 @@ public class RainbirdClient {
         }
     }
 
+    public static final class ScheduleSnapshot {
+
+        private final String identity;
+        private final String fingerprint;
+        private final List<String> summaries;
+        private final Instant fetchedAt;
+
+        public ScheduleSnapshot(String identity, String fingerprint, List<String> summaries, Instant fetchedAt) {
+            this.identity = identity;
+            this.fingerprint = fingerprint;
+            this.summaries = Collections.unmodifiableList(new ArrayList<>(summaries));
+            this.fetchedAt = fetchedAt;
+        }
+
+        public String getIdentity() {
+            return identity;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public List<String> getSummaries() {
+            return summaries;
+        }
+
+        /** When the summaries were read from the controller. */
+        public Instant getFetchedAt() {
+            return fetchedAt;
+        }
+    }
+
     private static final class AvailableStationsData {
 
         private final Set<Integer> activeZones;
@@ -940,81 +1501,227 @@ public class RainbirdClient {
         }
     }
 
-    private enum StickCommand {
-        MODEL_AND_VERSION("02", 1),
-        AVAILABLE_STATIONS("03", 2),
-        RETRIEVE_SCHEDULE("20", 3),
-        MANUALLY_RUN_PROGRAM("38", 2),
-        MANUALLY_RUN_STATION("39", 4),
-        STOP_IRRIGATION("40", 1),
-        COMBINED_CONTROLLER_STATE("4C", 1),
-        CONTROLLER_FIRMWARE_VERSION("0B", 1);
-
-        private final String commandCode;
-        private final int length;
+    /**
+     * Groups of poll requests that are refreshed at their own cadence.
+     */
+    public enum PollTier {
+        /** Combined controller state: time, rain delay, active station and remaining run time. */
+        FAST,
+        /** Network and Wi-Fi status of the stick. */
+        MEDIUM,
+        /** Settings, available stations and the stored schedule. */
+        SLOW
+    }
+
+    /**
+     * Whether the stick accepts JSON-RPC batch arrays; determined by the first batch sent.
+     */
+    enum BatchSupport {
+        UNKNOWN,
+        SUPPORTED,
+        UNSUPPORTED
+    }
+
+    /**
+     * The stick answered a batch with something that is not a matching array of responses.
+     */
+    private static final class BatchRejectedException extends IOException {
 
-        StickCommand(String commandCode, int length) {
-            this.commandCode = commandCode;
-            this.length = length;
+        private static final long serialVersionUID = 1L;
+
+        BatchRejectedException(String message) {
+            super(message);
         }
+    }
 
-        public String encode(Object... args) {
-            StringBuilder builder = new StringBuilder(commandCode);
-            if (this == RETRIEVE_SCHEDULE) {
-                int value = args.length > 0 ? toInt(args[0]) : 0;
-                builder.append(String.format("%04X", Integer.valueOf(value & 0xFFFF)));
-                return builder.toString();
-            }
-            if (this == MANUALLY_RUN_STATION) {
-                int zone = args.length > 0 ? toInt(args[0]) : 0;
-                int minutes = args.length > 1 ? toInt(args[1]) : 0;
-                builder.append(String.format("%04X%02X", Integer.valueOf(zone & 0xFFFF), Integer.valueOf(minutes & 0xFF)));
-                return builder.toString();
+    /**
+     * The parts of a JSON-RPC response envelope the client cares about.
+     */
+    private static final class Envelope<T> {
+
+        private long id = -1;
+        private @Nullable T result;
+        private @Nullable String error;
+        private boolean failed;
+
+        T require() throws IOException {
+            if (failed) {
+                throw new IOException("Rain Bird responded with an error: " + error);
             }
-            for (Object arg : args) {
-                builder.append(String.format("%02X", Integer.valueOf(toInt(arg) & 0xFF)));
+            T value = result;
+            if (value == null) {
+                throw new IOException("Unexpected Rain Bird response payload");
             }
-            return builder.toString();
+            return value;
         }
+    }
+
+    /**
+     * Parsed schedule summaries together with the signal they were fetched under.
+     */
+    private static final class ScheduleCacheEntry {
 
-        public int commandEcho() {
-            return Integer.parseInt(commandCode, 16);
+        private final String identity;
+        private final String fingerprint;
+        private final List<String> summaries;
+        private final long fetchedNanos;
+
+        ScheduleCacheEntry(String identity, String fingerprint, List<String> summaries, long fetchedNanos) {
+            this.identity = identity;
+            this.fingerprint = fingerprint;
+            this.summaries = summaries;
+            this.fetchedNanos = fetchedNanos;
         }
-    }
 
-    @FunctionalInterface
-    private interface SipDecoder<T> {
-        T decode(StickCommand command, String data) throws IOException, InterruptedException;
+        boolean matches(String currentIdentity, String currentFingerprint, long now) {
+            return identity.equals(currentIdentity) && fingerprint.equals(currentFingerprint)
+                    && now - fetchedNanos < SCHEDULE_MAX_AGE_NANOS;
+        }
     }
 
-    private static int toInt(Object value) {
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
+    /**
+     * Collects the individual responses of one asynchronous poll sequence.
+     */
+    private static final class PollProgress {
+
+        private NetworkStatus networkStatus = new NetworkStatus(false, false);
+        private WifiStatus wifiStatus = new WifiStatus(0, null, null, null);
+        private int programCount;
+        private @Nullable AvailableStationsData stations;
+        private @Nullable CombinedState combinedState;
+        private List<String> scheduleSummaries = List.of();
+
+        PollProgress(@Nullable PollProgress previous) {
+            if (previous != null) {
+                networkStatus = previous.networkStatus;
+                wifiStatus = previous.wifiStatus;
+                programCount = previous.programCount;
+                stations = previous.stations;
+                combinedState = previous.combinedState;
+                scheduleSummaries = previous.scheduleSummaries;
+            }
         }
-        if (value instanceof String) {
-            return Integer.parseInt((String) value);
+
+        /**
+         * The stick's MAC address once known, so a replaced stick at the same address does not reuse cached data.
+         */
+        String controllerIdentity() {
+            String mac = wifiStatus.getMacAddress();
+            return mac != null ? mac : "";
+        }
+
+        AvailableStationsData requireStations() {
+            return Objects.requireNonNull(stations);
+        }
+
+        PollingResult toResult() {
+            AvailableStationsData availableStations = requireStations();
+            CombinedState state = Objects.requireNonNull(combinedState);
+            ControllerStatus controllerStatus = new ControllerStatus(networkStatus, wifiStatus, state, Instant.now());
+            ProgramStatus programStatus = new ProgramStatus(programCount, scheduleSummaries);
+            ZoneStatus zoneStatus = new ZoneStatus(availableStations.activeZones(), availableStations.slotCount(),
+                    state.getActiveStation(), state.getRemainingRuntime());
+            return new PollingResult(controllerStatus, programStatus, zoneStatus);
         }
-        throw new IllegalArgumentException("Unsupported argument type: " + value);
     }
 
-    private static String toHexDump(byte[] data) {
-        if (data == null) {
-            return "<null>";
+    /**
+     * SIP commands understood by the stick. Each row declares the request opcode, the opcode of the expected
+     * response and the byte widths of the request fields; frames are built by {@link RainbirdSipCodec}.
+     */
+    private enum StickCommand {
+        MODEL_AND_VERSION(0x02, 0x82, true),
+        AVAILABLE_STATIONS(0x03, 0x83, true, 1),
+        RETRIEVE_SCHEDULE(0x20, 0xA0, true, 2),
+        MANUALLY_RUN_PROGRAM(0x38, ACK_RESPONSE, false, 1),
+        MANUALLY_RUN_STATION(0x39, ACK_RESPONSE, false, 2, 1),
+        STOP_IRRIGATION(0x40, ACK_RESPONSE, false),
+        COMBINED_CONTROLLER_STATE(0x4C, 0xCC, true),
+        CONTROLLER_FIRMWARE_VERSION(0x0B, 0x8B, true);
+
+        private final int opcode;
+        private final int[] fieldWidths;
+        /** Frame length in bytes, as announced in the {@code length} parameter of the tunnel call. */
+        private final int length;
+        private final int responseOpcode;
+        /** Read-only commands may be coalesced; commands that change controller state never are. */
+        private final boolean query;
+        private final @Nullable String constantFrame;
+
+        StickCommand(int opcode, int responseOpcode, boolean query, int... fieldWidths) {
+            this.opcode = opcode;
+            this.fieldWidths = fieldWidths;
+            int bytes = 1;
+            for (int width : fieldWidths) {
+                bytes += width;
+            }
+            this.length = bytes;
+            this.responseOpcode = responseOpcode;
+            this.query = query;
+            this.constantFrame = fieldWidths.length == 0 ? RainbirdSipCodec.hex(opcode) : null;
         }
+
+        String encode() {
+            String frame = constantFrame;
+            return frame != null ? frame : RainbirdSipCodec.encode(opcode, fieldWidths, 0, 0);
+        }
+
+        String encode(int first) {
+            return RainbirdSipCodec.encode(opcode, fieldWidths, first, 0);
+        }
+
+        String encode(int first, int second) {
+            return RainbirdSipCodec.encode(opcode, fieldWidths, first, second);
+        }
+
+        int commandEcho() {
+            return opcode;
+        }
+
+        /**
+         * Whether the encoded frame is a known read-only command; unknown opcodes are treated as commands.
+         */
+        static boolean isQuery(String frame) {
+            if (frame.length() < 2) {
+                return false;
+            }
+            int high = RainbirdSipCodec.nibble(frame.charAt(0));
+            int low = RainbirdSipCodec.nibble(frame.charAt(1));
+            if (high < 0 || low < 0) {
+                return false;
+            }
+            int opcode = (high << 4) | low;
+            for (StickCommand command : values()) {
+                if (command.opcode == opcode) {
+                    return command.query;
+                }
+            }
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SipDecoder<T> {
+        T decode(StickCommand command, RainbirdSipFrame frame) throws IOException;
+    }
+
+    private static String toHexDump(ByteBuffer data) {
         StringBuilder sb = new StringBuilder();
+        int base = data.position();
+        int length = data.remaining();
         int offset = 0;
-        for (int i = 0; i < data.length; i += 16) {
+        for (int i = 0; i < length; i += 16) {
             sb.append(String.format("%04X: ", Integer.valueOf(offset)));
             int j;
-            for (j = 0; j < 16 && i + j < data.length; j++) {
-                sb.append(String.format("%02X ", Integer.valueOf(data[i + j] & 0xFF)));
+            for (j = 0; j < 16 && i + j < length; j++) {
+                sb.append(String.format("%02X ", Integer.valueOf(data.get(base + i + j) & 0xFF)));
             }
             for (; j < 16; j++) {
                 sb.append("   ");
             }
             sb.append("  ");
-            for (j = 0; j < 16 && i + j < data.length; j++) {
-                int b = data[i + j] & 0xFF;
+            for (j = 0; j < 16 && i + j < length; j++) {
+                int b = data.get(base + i + j) & 0xFF;
                 char ch = (b >= 32 && b <= 126) ? (char) b : '.';
                 sb.append(ch);
             }
@@ -0,0 +1,100 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.io.IOException;
+import java.security.DigestException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * AES/CBC and SHA-256 primitives for the stick protocol. {@link Cipher} and {@link MessageDigest} instances are
+ * cached per thread and the key spec is built once per session key; all operations write into caller buffers.
+ */
+@NonNullByDefault
+final class RainbirdCryptoEngine {
+
+    static final int BLOCK_SIZE = 16;
+    static final int HASH_SIZE = 32;
+
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(RainbirdCryptoEngine::newCipher);
+    private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal
+            .withInitial(RainbirdCryptoEngine::newDigest);
+
+    private final SecretKeySpec key;
+
+    RainbirdCryptoEngine(byte[] sessionKey) {
+        this.key = new SecretKeySpec(sessionKey, "AES");
+    }
+
+    /**
+     * Encrypt {@code length} bytes (a multiple of the block size) into {@code output}. Input and output may be the
+     * same region. Returns the number of bytes written.
+     */
+    int encrypt(byte[] iv, int ivOffset, byte[] input, int offset, int length, byte[] output, int outputOffset)
+            throws IOException {
+        return apply(Cipher.ENCRYPT_MODE, iv, ivOffset, input, offset, length, output, outputOffset);
+    }
+
+    /**
+     * Decrypt {@code length} bytes (a multiple of the block size) into {@code output}. Input and output may be the
+     * same region. Returns the number of bytes written.
+     */
+    int decrypt(byte[] iv, int ivOffset, byte[] input, int offset, int length, byte[] output, int outputOffset)
+            throws IOException {
+        return apply(Cipher.DECRYPT_MODE, iv, ivOffset, input, offset, length, output, outputOffset);
+    }
+
+    /**
+     * Write the SHA-256 hash of the given range to {@code output} at {@code outputOffset}.
+     */
+    static void sha256(byte[] input, int offset, int length, byte[] output, int outputOffset) throws IOException {
+        MessageDigest digest = DIGESTS.get();
+        digest.update(input, offset, length);
+        try {
+            digest.digest(output, outputOffset, HASH_SIZE);
+        } catch (DigestException e) {
+            throw new IOException("Unable to compute SHA-256 hash", e);
+        }
+    }
+
+    static byte[] sha256(byte[] input) {
+        return DIGESTS.get().digest(input);
+    }
+
+    private int apply(int mode, byte[] iv, int ivOffset, byte[] input, int offset, int length, byte[] output,
+            int outputOffset) throws IOException {
+        if (length % BLOCK_SIZE != 0) {
+            throw new IOException("AES payload length " + length + " is not a multiple of " + BLOCK_SIZE);
+        }
+        Cipher cipher = CIPHERS.get();
+        try {
+            cipher.init(mode, key, new IvParameterSpec(iv, ivOffset, BLOCK_SIZE));
+            return cipher.doFinal(input, offset, length, output, outputOffset);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Unable to process AES payload", e);
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance("AES/CBC/NoPadding");
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new IllegalStateException("AES/CBC not available", e);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Bounded, lock-free record of the most recent exchanges with the stick. Raw wire bytes are copied as they are;
+ * nothing is formatted until a snapshot is read.
+ */
+@NonNullByDefault
+final class RainbirdFlightRecorder {
+
+    static final int DEFAULT_CAPACITY = 32;
+    /** Longer bodies are truncated; typical stick envelopes are well below this. */
+    static final int MAX_CAPTURE_BYTES = 2048;
+
+    private final AtomicReferenceArray<@Nullable Exchange> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    RainbirdFlightRecorder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    RainbirdFlightRecorder(int capacity) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    /**
+     * Record one request/response exchange. {@code response} is read between position and limit and left unchanged.
+     */
+    void record(String method, byte[] request, @Nullable ByteBuffer response, long latencyNanos,
+            @Nullable Throwable failure) {
+        long number = sequence.getAndIncrement();
+        byte[] responseBytes = null;
+        int responseLength = 0;
+        if (response != null) {
+            responseLength = response.remaining();
+            responseBytes = new byte[Math.min(responseLength, MAX_CAPTURE_BYTES)];
+            response.duplicate().get(responseBytes);
+        }
+        Exchange exchange = new Exchange(number, System.currentTimeMillis(), method,
+                Arrays.copyOf(request, Math.min(request.length, MAX_CAPTURE_BYTES)), request.length, responseBytes,
+                responseLength, latencyNanos, failure);
+        slots.set((int) (number % slots.length()), exchange);
+    }
+
+    /**
+     * The recorded exchanges, oldest first.
+     */
+    List<Exchange> snapshot() {
+        List<Exchange> exchanges = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            Exchange exchange = slots.get(i);
+            if (exchange != null) {
+                exchanges.add(exchange);
+            }
+        }
+        exchanges.sort(Comparator.comparingLong(Exchange::getSequence));
+        return exchanges;
+    }
+
+    /**
+     * One captured exchange. Body arrays hold at most {@link #MAX_CAPTURE_BYTES} bytes.
+     */
+    static final class Exchange {
+
+        private final long sequence;
+        private final long timestampMillis;
+        private final String method;
+        private final byte[] request;
+        private final int requestLength;
+        private final byte @Nullable [] response;
+        private final int responseLength;
+        private final long latencyNanos;
+        private final @Nullable Throwable failure;
+
+        private Exchange(long sequence, long timestampMillis, String method, byte[] request, int requestLength,
+                byte @Nullable [] response, int responseLength, long latencyNanos, @Nullable Throwable failure) {
+            this.sequence = sequence;
+            this.timestampMillis = timestampMillis;
+            this.method = method;
+            this.request = request;
+            this.requestLength = requestLength;
+            this.response = response;
+            this.responseLength = responseLength;
+            this.latencyNanos = latencyNanos;
+            this.failure = failure;
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+        long getTimestampMillis() {
+            return timestampMillis;
+        }
+
+        String getMethod() {
+            return method;
+        }
+
+        byte[] getRequest() {
+            return request;
+        }
+
+        int getRequestLength() {
+            return requestLength;
+        }
+
+        byte @Nullable [] getResponse() {
+            return response;
+        }
+
+        int getResponseLength() {
+            return responseLength;
+        }
+
+        long getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        @Nullable Throwable getFailure() {
+            return failure;
+        }
+    }
+}
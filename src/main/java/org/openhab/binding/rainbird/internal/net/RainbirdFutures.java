@@ -0,0 +1,73 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Helpers for bridging the asynchronous client API to blocking callers.
+ */
+@NonNullByDefault
+public final class RainbirdFutures {
+
+    private RainbirdFutures() {
+        // Utility class
+    }
+
+    /**
+     * Wait for the future and rethrow its failure as the checked exception a blocking caller expects.
+     */
+    public static <T> T await(CompletableFuture<T> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw toIOException(e.getCause());
+        } catch (CancellationException e) {
+            throw new IOException("Rain Bird request was cancelled", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Strip {@link CompletionException} wrappers and map the cause to an {@link IOException}.
+     */
+    public static IOException toIOException(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        }
+        if (cause instanceof TimeoutException) {
+            SocketTimeoutException timeout = new SocketTimeoutException("Rain Bird request timed out");
+            timeout.initCause(cause);
+            return timeout;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        return new IOException(cause.getMessage(), cause);
+    }
+
+    /**
+     * Strip {@link CompletionException} and {@link ExecutionException} wrappers.
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    static <T> CompletableFuture<T> failed(Throwable error) {
+        return CompletableFuture.failedFuture(unwrap(error));
+    }
+}
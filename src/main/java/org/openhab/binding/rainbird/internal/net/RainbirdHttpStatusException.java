@@ -0,0 +1,28 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.io.IOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Raised when the stick answers with an HTTP error status. The stick is reachable, so this is no transport failure.
+ */
+@NonNullByDefault
+public class RainbirdHttpStatusException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    public RainbirdHttpStatusException(int status) {
+        super("Unexpected HTTP status " + status + " from Rain Bird controller");
+        this.status = status;
+    }
+
+    /**
+     * HTTP status code returned by the stick.
+     */
+    public int getStatus() {
+        return status;
+    }
+}
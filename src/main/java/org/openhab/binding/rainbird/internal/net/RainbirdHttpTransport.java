@@ -0,0 +1,205 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BytesContentProvider;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Posts requests to a single endpoint through openHAB's shared Jetty {@link HttpClient}, which owns the keep-alive
+ * connection pool and the I/O threads. This class only adds the request deadline and the replay of idempotent
+ * requests on a connection the peer closed while it was idle.
+ */
+@NonNullByDefault
+final class RainbirdHttpTransport implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RainbirdHttpTransport.class);
+    private static final int MAX_RESPONSE_BYTES = 1 << 20;
+
+    private final HttpClient httpClient;
+    private final URI endpoint;
+    private final Map<String, String> headers;
+    private final Set<Request> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    RainbirdHttpTransport(HttpClient httpClient, URI endpoint, Map<String, String> headers) {
+        this.httpClient = httpClient;
+        this.endpoint = endpoint;
+        this.headers = headers;
+    }
+
+    /**
+     * POST the supplied body and complete with the response body. The body is the region between position and limit
+     * of a buffer taken from {@link RainbirdBufferPool}; the caller owns it and should release it when done. Only an
+     * idempotent request is replayed when a pooled connection turns out to be dead. The timeout covers the whole
+     * request: name lookup, waiting for a connection, connecting, a possible replay and the exchange share one
+     * deadline.
+     */
+    CompletableFuture<ByteBuffer> postAsync(byte[] body, int timeoutMillis, boolean idempotent) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        return send(body, deadlineNanos).handle((response, error) -> {
+            if (error == null) {
+                return CompletableFuture.completedFuture(response);
+            }
+            if (idempotent && RainbirdFutures.unwrap(error) instanceof StaleConnectionException
+                    && deadlineNanos - System.nanoTime() > 0) {
+                // The stick dropped the idle socket without telling us; replay once on a fresh connection. A command
+                // is not replayed, the stick may have executed it before closing.
+                LOGGER.debug("Pooled connection to {} was closed by the peer, reconnecting", endpoint);
+                return send(body, deadlineNanos);
+            }
+            return RainbirdFutures.<ByteBuffer> failed(error);
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Abort the requests still in flight. Pooled connections belong to the shared client and stay open for other
+     * endpoints.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        IOException error = closedException();
+        inFlight.forEach(request -> request.abort(error));
+        inFlight.clear();
+    }
+
+    private CompletableFuture<ByteBuffer> send(byte[] body, long deadlineNanos) {
+        if (closed) {
+            return CompletableFuture.failedFuture(closedException());
+        }
+        int timeoutMillis = remainingMillis(deadlineNanos);
+        Request request = httpClient.newRequest(endpoint).method(HttpMethod.POST)
+                .timeout(timeoutMillis, TimeUnit.MILLISECONDS).followRedirects(false)
+                .header(HttpHeader.CONNECTION, "keep-alive")
+                .content(new BytesContentProvider("application/octet-stream", body));
+        headers.forEach(request::header);
+        ResponseListener listener = new ResponseListener(timeoutMillis);
+        inFlight.add(request);
+        listener.result.whenComplete((response, error) -> inFlight.remove(request));
+        request.send(listener);
+        return listener.result;
+    }
+
+    private IOException closedException() {
+        return new IOException("Rain Bird transport for " + endpoint + " is closed");
+    }
+
+    /**
+     * Budget left until {@code deadlineNanos}; at least one millisecond so an exhausted budget still fails by timeout.
+     */
+    private static int remainingMillis(long deadlineNanos) {
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, remaining));
+    }
+
+    /**
+     * Collects the (already content-decoded) body into a pooled buffer and fails once it exceeds
+     * {@link #MAX_RESPONSE_BYTES}, so a compressed answer cannot inflate without bound.
+     */
+    private final class ResponseListener extends Response.Listener.Adapter {
+
+        /** Budget at the start of the exchange, only for the timeout message. */
+        private final int timeoutMillis;
+        private final CompletableFuture<ByteBuffer> result = new CompletableFuture<>();
+        private @Nullable ByteBuffer buffer;
+        private boolean responded;
+
+        ResponseListener(int timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public void onBegin(Response response) {
+            responded = true;
+        }
+
+        @Override
+        public void onContent(Response response, ByteBuffer content) {
+            ByteBuffer target = buffer;
+            int used = target == null ? 0 : target.position();
+            int needed = used + content.remaining();
+            if (needed > MAX_RESPONSE_BYTES) {
+                response.abort(new IOException("Rain Bird response too large"));
+                return;
+            }
+            if (target == null) {
+                target = RainbirdBufferPool.acquire(needed);
+            } else if (needed > target.capacity()) {
+                target = RainbirdBufferPool.grow(target, used, needed);
+            }
+            target.put(content);
+            buffer = target;
+        }
+
+        @Override
+        public void onComplete(Result outcome) {
+            ByteBuffer data = buffer;
+            buffer = null;
+            Throwable failure = outcome.getFailure();
+            if (failure != null) {
+                release(data);
+                result.completeExceptionally(map(failure));
+                return;
+            }
+            int status = outcome.getResponse().getStatus();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Rain Bird HTTP response {} from {} ({} bytes)", Integer.valueOf(status), endpoint,
+                        Integer.valueOf(data == null ? 0 : data.position()));
+            }
+            if (status >= 400) {
+                release(data);
+                result.completeExceptionally(new RainbirdHttpStatusException(status));
+                return;
+            }
+            // Hand the pooled buffer to the caller with the body as its readable region.
+            result.complete(data != null ? data.flip() : RainbirdBufferPool.acquire(0).flip());
+        }
+
+        private Throwable map(Throwable failure) {
+            if (failure instanceof TimeoutException) {
+                return new SocketTimeoutException("No response from " + endpoint + " within " + timeoutMillis + " ms");
+            }
+            if (!responded && (failure instanceof EOFException || failure instanceof ClosedChannelException)) {
+                return new StaleConnectionException((IOException) failure);
+            }
+            return failure;
+        }
+
+        private void release(@Nullable ByteBuffer data) {
+            if (data != null) {
+                RainbirdBufferPool.release(data);
+            }
+        }
+    }
+
+    private static final class StaleConnectionException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        StaleConnectionException(IOException cause) {
+            super(cause);
+        }
+    }
+}
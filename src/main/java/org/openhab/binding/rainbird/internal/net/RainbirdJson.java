@@ -1,6 +1,7 @@
 package org.openhab.binding.rainbird.internal.net;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * Minimal JSON parser/serializer used for communicating with the Rain Bird controller.
@@ -25,8 +27,40 @@ final class RainbirdJson {
         return builder.toString();
     }
 
+    public static String stringifyArray(List<?> values) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        new Serializer(builder).writeArray(values);
+        return builder.toString();
+    }
+
+    /**
+     * Parse a JSON document whose top-level value may be an object or an array.
+     */
+    public static Object parse(String json) throws IOException {
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        return parse(data, 0, data.length);
+    }
+
+    /**
+     * Parse UTF-8 encoded JSON directly from {@code length} bytes of {@code data} starting at {@code offset}.
+     */
+    public static Object parse(byte[] data, int offset, int length) throws IOException {
+        return parse(new RainbirdJsonReader(data, offset, length));
+    }
+
+    /**
+     * Build the value tree for the next value of {@code reader}.
+     */
+    public static Object parse(RainbirdJsonReader reader) throws IOException {
+        Object value = readValue(reader);
+        if (value == null) {
+            throw new IOException("JSON document is null");
+        }
+        return value;
+    }
+
     public static Map<String, Object> parseObject(String json) throws IOException {
-        Object value = new Parser(json).parseValue();
+        Object value = parse(json);
         if (!(value instanceof Map)) {
             throw new IOException("JSON document is not an object");
         }
@@ -126,223 +160,36 @@ final class RainbirdJson {
         }
     }
 
-    private static final class Parser {
-
-        private final String json;
-        private int index = 0;
-
-        Parser(String json) {
-            this.json = json;
-        }
-
-        Object parseValue() throws IOException {
-            skipWhitespace();
-            if (index >= json.length()) {
-                throw new IOException("Unexpected end of JSON input");
-            }
-            char c = json.charAt(index);
-            switch (c) {
-                case '{':
-                    return parseObject();
-                case '[':
-                    return parseArray();
-                case '"':
-                    return parseString();
-                case 't':
-                case 'f':
-                    return parseBoolean();
-                case 'n':
-                    parseNull();
-                    return null;
-                default:
-                    if (c == '-' || Character.isDigit(c)) {
-                        return parseNumber();
-                    }
-                    throw new IOException("Unexpected character '" + c + "' at position " + index);
-            }
-        }
-
-        private Map<String, Object> parseObject() throws IOException {
-            expect('{');
-            Map<String, Object> result = new LinkedHashMap<>();
-            skipWhitespace();
-            if (peek('}')) {
-                index++;
-                return result;
-            }
-            while (true) {
-                skipWhitespace();
-                String key = parseString();
-                skipWhitespace();
-                expect(':');
-                skipWhitespace();
-                Object value = parseValue();
-                result.put(key, value);
-                skipWhitespace();
-                if (peek('}')) {
-                    index++;
-                    break;
-                }
-                expect(',');
-            }
-            return result;
-        }
-
-        private List<Object> parseArray() throws IOException {
-            expect('[');
-            List<Object> result = new ArrayList<>();
-            skipWhitespace();
-            if (peek(']')) {
-                index++;
-                return result;
-            }
-            while (true) {
-                skipWhitespace();
-                result.add(parseValue());
-                skipWhitespace();
-                if (peek(']')) {
-                    index++;
-                    break;
-                }
-                expect(',');
-            }
-            return result;
-        }
-
-        private String parseString() throws IOException {
-            expect('"');
-            StringBuilder builder = new StringBuilder();
-            while (index < json.length()) {
-                char c = json.charAt(index++);
-                if (c == '"') {
-                    return builder.toString();
-                }
-                if (c == '\\') {
-                    if (index >= json.length()) {
-                        throw new IOException("Unexpected end of JSON input");
-                    }
-                    char escape = json.charAt(index++);
-                    switch (escape) {
-                        case '"':
-                        case '\\':
-                        case '/':
-                            builder.append(escape);
-                            break;
-                        case 'b':
-                            builder.append('\b');
-                            break;
-                        case 'f':
-                            builder.append('\f');
-                            break;
-                        case 'n':
-                            builder.append('\n');
-                            break;
-                        case 'r':
-                            builder.append('\r');
-                            break;
-                        case 't':
-                            builder.append('\t');
-                            break;
-                        case 'u':
-                            if (index + 4 > json.length()) {
-                                throw new IOException("Invalid unicode escape in JSON string");
-                            }
-                            String hex = json.substring(index, index + 4);
-                            index += 4;
-                            try {
-                                builder.append((char) Integer.parseInt(hex, 16));
-                            } catch (NumberFormatException e) {
-                                throw new IOException("Invalid unicode escape in JSON string", e);
-                            }
-                            break;
-                        default:
-                            throw new IOException("Invalid escape sequence \\" + escape + " in JSON string");
-                    }
-                } else {
-                    builder.append(c);
-                }
-            }
-            throw new IOException("Unterminated JSON string");
-        }
-
-        private Boolean parseBoolean() throws IOException {
-            if (json.startsWith("true", index)) {
-                index += 4;
-                return Boolean.TRUE;
-            }
-            if (json.startsWith("false", index)) {
-                index += 5;
-                return Boolean.FALSE;
-            }
-            throw new IOException("Invalid boolean value in JSON");
-        }
-
-        private void parseNull() throws IOException {
-            if (!json.startsWith("null", index)) {
-                throw new IOException("Invalid null value in JSON");
-            }
-            index += 4;
-        }
-
-        private Number parseNumber() throws IOException {
-            int start = index;
-            if (json.charAt(index) == '-') {
-                index++;
-            }
-            while (index < json.length() && Character.isDigit(json.charAt(index))) {
-                index++;
-            }
-            boolean isFloat = false;
-            if (index < json.length() && json.charAt(index) == '.') {
-                isFloat = true;
-                index++;
-                while (index < json.length() && Character.isDigit(json.charAt(index))) {
-                    index++;
-                }
-            }
-            if (index < json.length()) {
-                char exp = json.charAt(index);
-                if (exp == 'e' || exp == 'E') {
-                    isFloat = true;
-                    index++;
-                    if (index < json.length() && (json.charAt(index) == '+' || json.charAt(index) == '-')) {
-                        index++;
-                    }
-                    while (index < json.length() && Character.isDigit(json.charAt(index))) {
-                        index++;
-                    }
+    private static @Nullable Object readValue(RainbirdJsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                Map<String, Object> object = new LinkedHashMap<>();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String key = reader.nextName();
+                    object.put(key, readValue(reader));
                 }
-            }
-            String number = json.substring(start, index);
-            try {
-                if (isFloat) {
-                    return Double.valueOf(number);
+                reader.endObject();
+                return object;
+            case BEGIN_ARRAY:
+                List<Object> array = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    array.add(readValue(reader));
                 }
-                long value = Long.parseLong(number);
-                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
-                    return Integer.valueOf((int) value);
-                }
-                return Long.valueOf(value);
-            } catch (NumberFormatException e) {
-                throw new IOException("Invalid number in JSON", e);
-            }
-        }
-
-        private void skipWhitespace() {
-            while (index < json.length() && Character.isWhitespace(json.charAt(index))) {
-                index++;
-            }
-        }
-
-        private void expect(char expected) throws IOException {
-            if (index >= json.length() || json.charAt(index) != expected) {
-                throw new IOException("Expected '" + expected + "' in JSON");
-            }
-            index++;
-        }
-
-        private boolean peek(char expected) {
-            return index < json.length() && json.charAt(index) == expected;
+                reader.endArray();
+                return array;
+            case STRING:
+                return reader.nextString();
+            case NUMBER:
+                return reader.nextNumber();
+            case BOOLEAN:
+                return Boolean.valueOf(reader.nextBoolean());
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                throw new IOException("Unexpected " + reader.peek() + " in JSON");
         }
     }
 }
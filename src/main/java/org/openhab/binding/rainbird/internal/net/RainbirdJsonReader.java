@@ -0,0 +1,522 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Pull parser reading UTF-8 encoded JSON directly from a byte range. Callers walk the document token by token and
+ * can skip whatever they are not interested in, so no intermediate tree has to be built.
+ */
+@NonNullByDefault
+final class RainbirdJsonReader {
+
+    enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    /** Keys of the JSON-RPC envelope and stick payloads; returned as shared instances instead of new strings. */
+    private static final String[] KNOWN_KEYS = { "id", "jsonrpc", "result", "data", "error", "message", "code",
+            "method", "params", "length", "country" };
+    private static final byte[][] KNOWN_KEY_BYTES = new byte[KNOWN_KEYS.length][];
+
+    static {
+        for (int i = 0; i < KNOWN_KEYS.length; i++) {
+            KNOWN_KEY_BYTES[i] = KNOWN_KEYS[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final byte[] data;
+    private final int end;
+    private int index;
+    private int[] scopes = new int[8];
+    private int depth = 1;
+    private Token peeked = Token.END_DOCUMENT;
+    private boolean hasPeeked;
+
+    RainbirdJsonReader(byte[] data, int offset, int length) {
+        this.data = data;
+        this.index = offset;
+        this.end = offset + length;
+        scopes[0] = EMPTY_DOCUMENT;
+    }
+
+    Token peek() throws IOException {
+        if (!hasPeeked) {
+            peeked = doPeek();
+            hasPeeked = true;
+        }
+        return peeked;
+    }
+
+    boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    void beginObject() throws IOException {
+        consume(Token.BEGIN_OBJECT);
+        index++;
+        push(EMPTY_OBJECT);
+    }
+
+    void endObject() throws IOException {
+        consume(Token.END_OBJECT);
+        index++;
+        depth--;
+    }
+
+    void beginArray() throws IOException {
+        consume(Token.BEGIN_ARRAY);
+        index++;
+        push(EMPTY_ARRAY);
+    }
+
+    void endArray() throws IOException {
+        consume(Token.END_ARRAY);
+        index++;
+        depth--;
+    }
+
+    String nextName() throws IOException {
+        consume(Token.NAME);
+        scopes[depth - 1] = DANGLING_NAME;
+        return readString(true);
+    }
+
+    String nextString() throws IOException {
+        Token token = peek();
+        if (token == Token.NUMBER) {
+            hasPeeked = false;
+            int start = index;
+            scanNumber();
+            return new String(data, start, index - start, StandardCharsets.US_ASCII);
+        }
+        consume(Token.STRING);
+        return readString(false);
+    }
+
+    boolean nextBoolean() throws IOException {
+        consume(Token.BOOLEAN);
+        if (matches("true")) {
+            index += 4;
+            return true;
+        }
+        if (matches("false")) {
+            index += 5;
+            return false;
+        }
+        throw new IOException("Invalid boolean value in JSON at position " + index);
+    }
+
+    void nextNull() throws IOException {
+        consume(Token.NULL);
+        if (!matches("null")) {
+            throw new IOException("Invalid null value in JSON at position " + index);
+        }
+        index += 4;
+    }
+
+    /**
+     * Read an integral number without boxing.
+     */
+    long nextLong() throws IOException {
+        consume(Token.NUMBER);
+        int start = index;
+        boolean integral = scanNumber();
+        if (!integral) {
+            throw new IOException("Expected an integer in JSON at position " + start);
+        }
+        return parseLong(start, index);
+    }
+
+    /**
+     * Report whether the next number is integral without consuming it.
+     */
+    boolean peekIntegral() throws IOException {
+        if (peek() != Token.NUMBER) {
+            return false;
+        }
+        int start = index;
+        boolean integral = scanNumber() && index - start <= 19;
+        index = start;
+        return integral;
+    }
+
+    int nextInt() throws IOException {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IOException("JSON number " + value + " does not fit into an int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Read a number as {@link Integer}, {@link Long} or {@link Double}, whichever is the narrowest fit.
+     */
+    Number nextNumber() throws IOException {
+        consume(Token.NUMBER);
+        int start = index;
+        boolean integral = scanNumber();
+        if (integral && index - start <= 18) {
+            long value = parseLong(start, index);
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return Integer.valueOf((int) value);
+            }
+            return Long.valueOf(value);
+        }
+        String number = new String(data, start, index - start, StandardCharsets.US_ASCII);
+        try {
+            return integral ? Long.valueOf(number) : Double.valueOf(number);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number in JSON", e);
+        }
+    }
+
+    /**
+     * Skip the next value including all nested content.
+     */
+    void skipValue() throws IOException {
+        int nesting = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    nesting++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    nesting++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    nesting--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    nesting--;
+                    break;
+                case NAME:
+                    nextName();
+                    break;
+                case STRING:
+                    nextString();
+                    break;
+                case NUMBER:
+                    consume(Token.NUMBER);
+                    scanNumber();
+                    break;
+                case BOOLEAN:
+                    nextBoolean();
+                    break;
+                case NULL:
+                    nextNull();
+                    break;
+                default:
+                    throw new IOException("Unexpected end of JSON input");
+            }
+        } while (nesting > 0);
+    }
+
+    private void consume(Token expected) throws IOException {
+        Token token = peek();
+        if (token != expected) {
+            throw new IOException("Expected " + expected + " but was " + token + " in JSON at position " + index);
+        }
+        hasPeeked = false;
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = scope;
+    }
+
+    private Token doPeek() throws IOException {
+        int scope = scopes[depth - 1];
+        switch (scope) {
+            case EMPTY_DOCUMENT:
+                scopes[depth - 1] = NONEMPTY_DOCUMENT;
+                return peekValue();
+            case NONEMPTY_DOCUMENT:
+                return Token.END_DOCUMENT;
+            case EMPTY_ARRAY:
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                if (nextNonWhitespace() == ']') {
+                    return Token.END_ARRAY;
+                }
+                return peekValue();
+            case NONEMPTY_ARRAY: {
+                int c = nextNonWhitespace();
+                if (c == ']') {
+                    return Token.END_ARRAY;
+                }
+                expect(',');
+                return peekValue();
+            }
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT: {
+                int c = nextNonWhitespace();
+                if (c == '}') {
+                    return Token.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    expect(',');
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw new IOException("Expected a name in JSON at position " + index);
+                }
+                return Token.NAME;
+            }
+            case DANGLING_NAME:
+                nextNonWhitespace();
+                expect(':');
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+                return peekValue();
+            default:
+                throw new IllegalStateException("Unknown JSON scope " + scope);
+        }
+    }
+
+    private Token peekValue() throws IOException {
+        int c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                return Token.STRING;
+            case 't':
+            case 'f':
+                return Token.BOOLEAN;
+            case 'n':
+                return Token.NULL;
+            case -1:
+                throw new IOException("Unexpected end of JSON input");
+            default:
+                if (c == '-' || isDigit(c)) {
+                    return Token.NUMBER;
+                }
+                throw new IOException("Unexpected character '" + (char) c + "' at position " + index);
+        }
+    }
+
+    /**
+     * Skip whitespace and return the next byte without consuming it, or -1 at the end of input.
+     */
+    private int nextNonWhitespace() {
+        while (index < end) {
+            byte c = data[index];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c & 0xFF;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    private void expect(char expected) throws IOException {
+        if (index >= end || data[index] != expected) {
+            throw new IOException("Expected '" + expected + "' in JSON at position " + index);
+        }
+        index++;
+        nextNonWhitespace();
+    }
+
+    private String readString(boolean name) throws IOException {
+        index++;
+        int start = index;
+        boolean ascii = true;
+        // Fast path: strings without escapes are decoded straight from the byte range.
+        while (index < end) {
+            byte c = data[index];
+            if (c == '"') {
+                int length = index - start;
+                index++;
+                if (!ascii) {
+                    return new String(data, start, length, StandardCharsets.UTF_8);
+                }
+                if (name) {
+                    String known = knownKey(start, length);
+                    if (known != null) {
+                        return known;
+                    }
+                }
+                return new String(data, start, length, StandardCharsets.ISO_8859_1);
+            }
+            if (c == '\\') {
+                break;
+            }
+            ascii &= c >= 0;
+            index++;
+        }
+        return readEscapedString(start);
+    }
+
+    private String readEscapedString(int start) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        int run = start;
+        while (index < end) {
+            byte c = data[index];
+            if (c == '"') {
+                builder.append(new String(data, run, index - run, StandardCharsets.UTF_8));
+                index++;
+                return builder.toString();
+            }
+            if (c != '\\') {
+                index++;
+                continue;
+            }
+            builder.append(new String(data, run, index - run, StandardCharsets.UTF_8));
+            index++;
+            if (index >= end) {
+                throw new IOException("Unexpected end of JSON input");
+            }
+            char escape = (char) data[index++];
+            switch (escape) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append(escape);
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    builder.append(readUnicodeEscape());
+                    break;
+                default:
+                    throw new IOException("Invalid escape sequence \\" + escape + " in JSON string");
+            }
+            run = index;
+        }
+        throw new IOException("Unterminated JSON string");
+    }
+
+    private char readUnicodeEscape() throws IOException {
+        if (index + 4 > end) {
+            throw new IOException("Invalid unicode escape in JSON string");
+        }
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(data[index++], 16);
+            if (digit < 0) {
+                throw new IOException("Invalid unicode escape in JSON string");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    private @Nullable String knownKey(int start, int length) {
+        for (int i = 0; i < KNOWN_KEY_BYTES.length; i++) {
+            byte[] key = KNOWN_KEY_BYTES[i];
+            if (key.length == length && Arrays.equals(key, 0, length, data, start, start + length)) {
+                return KNOWN_KEYS[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Advance over a number and report whether it is integral.
+     */
+    private boolean scanNumber() throws IOException {
+        int start = index;
+        if (index < end && data[index] == '-') {
+            index++;
+        }
+        int digitsStart = index;
+        while (index < end && isDigit(data[index])) {
+            index++;
+        }
+        if (index == digitsStart) {
+            throw new IOException("Invalid number in JSON at position " + start);
+        }
+        boolean integral = true;
+        if (index < end && data[index] == '.') {
+            integral = false;
+            index++;
+            while (index < end && isDigit(data[index])) {
+                index++;
+            }
+        }
+        if (index < end && (data[index] == 'e' || data[index] == 'E')) {
+            integral = false;
+            index++;
+            if (index < end && (data[index] == '+' || data[index] == '-')) {
+                index++;
+            }
+            while (index < end && isDigit(data[index])) {
+                index++;
+            }
+        }
+        return integral;
+    }
+
+    private long parseLong(int start, int stop) throws IOException {
+        if (stop - start > 19) {
+            throw new IOException("JSON number out of range");
+        }
+        boolean negative = data[start] == '-';
+        long value = 0;
+        for (int i = negative ? start + 1 : start; i < stop; i++) {
+            value = value * 10 + (data[i] - '0');
+            if (value < 0) {
+                throw new IOException("JSON number out of range");
+            }
+        }
+        return negative ? -value : value;
+    }
+
+    private boolean matches(String literal) {
+        if (index + literal.length() > end) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (data[index + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -3,17 +3,12 @@ package org.openhab.binding.rainbird.internal.net;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
-import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,125 +21,168 @@ import org.eclipse.jdt.annotation.Nullable;
 @NonNullByDefault
 final class RainbirdPayloadCoder {
 
-    private static final int BLOCK_SIZE = 16;
+    private static final int BLOCK_SIZE = RainbirdCryptoEngine.BLOCK_SIZE;
+    private static final int HASH_SIZE = RainbirdCryptoEngine.HASH_SIZE;
+    private static final int HEADER_SIZE = HASH_SIZE + BLOCK_SIZE;
+    /** NUL terminator and line feed marker the stick expects after the JSON text. */
+    private static final byte[] TERMINATOR = { 0x00, 0x10 };
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RainbirdPayloadCoder.class);
 
-    private final @Nullable byte[] sessionKey;
+    private final @Nullable RainbirdCryptoEngine engine;
     private final SecureRandom secureRandom = new SecureRandom();
 
     RainbirdPayloadCoder(@Nullable String password) {
         if (password != null && !password.isBlank()) {
-            this.sessionKey = deriveSessionKey(password);
+            this.engine = new RainbirdCryptoEngine(deriveSessionKey(password));
         } else {
-            this.sessionKey = null;
+            this.engine = null;
         }
     }
 
     public byte[] encode(Map<String, Object> payload) throws IOException {
-        String json = RainbirdJson.stringify(payload);
-        if (sessionKey == null) {
-            return json.getBytes(StandardCharsets.UTF_8);
-        }
-        return encrypt(json);
+        return encodeJson(RainbirdJson.stringify(payload));
+    }
+
+    /**
+     * Encode several JSON-RPC requests as a single batch array.
+     */
+    public byte[] encodeBatch(List<Map<String, Object>> payloads) throws IOException {
+        return encodeJson(RainbirdJson.stringifyArray(payloads));
     }
 
     public Map<String, Object> decode(byte[] payload) throws IOException {
-        String json;
-        if (sessionKey == null) {
-            json = new String(payload, StandardCharsets.UTF_8);
-        } else {
-            json = decrypt(payload);
-        }
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Rain Bird decoded JSON payload: {}", json);
+        return decode(ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Decode the readable region of {@code payload}. Encrypted payloads are decrypted in place, so the buffer
+     * content is consumed.
+     */
+    public Map<String, Object> decode(ByteBuffer payload) throws IOException {
+        Object value = decodeAny(payload);
+        if (!(value instanceof Map)) {
+            throw new IOException("JSON document is not an object");
         }
-        return RainbirdJson.parseObject(json);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = (Map<String, Object>) value;
+        return result;
     }
 
-    private byte[] encrypt(String data) throws IOException {
-        byte[] padded = addPadding((data + "\u0000\u0010").getBytes(StandardCharsets.UTF_8));
-        byte[] secretKey = sessionKey;
-        byte[] iv = new byte[BLOCK_SIZE];
-        secureRandom.nextBytes(iv);
-        byte[] encrypted = aes(secretKey, iv, padded, Cipher.ENCRYPT_MODE);
-        byte[] hash = sha256(data.getBytes(StandardCharsets.UTF_8));
-        ByteBuffer buffer = ByteBuffer.allocate(hash.length + iv.length + encrypted.length);
-        buffer.put(hash);
-        buffer.put(iv);
-        buffer.put(encrypted);
-        return buffer.array();
+    /**
+     * Decode a response that may either be a batch array or a single envelope.
+     */
+    public Object decodeAny(ByteBuffer payload) throws IOException {
+        return RainbirdJson.parse(reader(payload));
     }
 
-    private String decrypt(byte[] payload) throws IOException {
-        if (payload.length < 48) {
-            throw new IOException("Encrypted payload too short");
+    /**
+     * Decrypt the readable region of {@code payload} in place and return a pull reader over the plaintext.
+     */
+    public RainbirdJsonReader reader(ByteBuffer payload) throws IOException {
+        if (!payload.hasArray()) {
+            byte[] copy = new byte[payload.remaining()];
+            payload.duplicate().get(copy);
+            payload = ByteBuffer.wrap(copy);
+        }
+        byte[] data = payload.array();
+        int start = payload.arrayOffset() + payload.position();
+        int end = payload.arrayOffset() + payload.limit();
+        RainbirdCryptoEngine crypto = engine;
+        if (crypto != null) {
+            start = decryptInPlace(crypto, data, start, end);
+            end = trimPadding(data, start, end);
         }
-        byte[] iv = Arrays.copyOfRange(payload, 32, 48);
-        byte[] encrypted = Arrays.copyOfRange(payload, 48, payload.length);
-        byte[] secretKey = sessionKey;
-        byte[] decrypted = aes(secretKey, iv, encrypted, Cipher.DECRYPT_MODE);
-        String text = new String(decrypted, StandardCharsets.UTF_8);
-        text = rstrip(text, '\u0010');
-        text = rstrip(text, '\n');
-        text = rstrip(text, '\u0000');
-        text = rstripWhitespace(text);
-        return text;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Rain Bird decoded JSON payload: {}", new String(data, start, end - start,
+                    StandardCharsets.UTF_8));
+        }
+        return new RainbirdJsonReader(data, start, end - start);
     }
 
-    private static byte[] deriveSessionKey(String password) {
-        byte[] keyBytes = password.getBytes(StandardCharsets.UTF_8);
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            return digest.digest(keyBytes);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 not available", e);
+    /**
+     * Plain JSON text of an encoded envelope, for diagnostics. {@code payload} itself is left untouched.
+     */
+    public String toText(byte[] payload) throws IOException {
+        byte[] data = payload.clone();
+        int start = 0;
+        int end = data.length;
+        RainbirdCryptoEngine crypto = engine;
+        if (crypto != null) {
+            start = decryptInPlace(crypto, data, start, end);
+            end = trimPadding(data, start, end);
         }
+        return new String(data, start, end - start, StandardCharsets.UTF_8);
     }
 
-    private static byte[] addPadding(byte[] data) {
-        int padding = (BLOCK_SIZE - (data.length % BLOCK_SIZE)) % BLOCK_SIZE;
-        if (padding == 0) {
+    private byte[] encodeJson(String json) throws IOException {
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        RainbirdCryptoEngine crypto = engine;
+        if (crypto == null) {
             return data;
         }
-        byte[] result = Arrays.copyOf(data, data.length + padding);
-        Arrays.fill(result, data.length, result.length, (byte) 0x10);
-        return result;
+        return encrypt(crypto, data);
     }
 
-    private static byte[] sha256(byte[] data) throws IOException {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            return digest.digest(data);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IOException("SHA-256 not available", e);
-        }
+    /**
+     * Build hash, IV and ciphertext in a single output array; the plaintext is padded and encrypted in place.
+     */
+    private byte[] encrypt(RainbirdCryptoEngine crypto, byte[] data) throws IOException {
+        int plainLength = data.length + TERMINATOR.length;
+        int paddedLength = plainLength + (BLOCK_SIZE - plainLength % BLOCK_SIZE) % BLOCK_SIZE;
+        byte[] output = new byte[HEADER_SIZE + paddedLength];
+        RainbirdCryptoEngine.sha256(data, 0, data.length, output, 0);
+        byte[] iv = new byte[BLOCK_SIZE];
+        secureRandom.nextBytes(iv);
+        System.arraycopy(iv, 0, output, HASH_SIZE, BLOCK_SIZE);
+        System.arraycopy(data, 0, output, HEADER_SIZE, data.length);
+        System.arraycopy(TERMINATOR, 0, output, HEADER_SIZE + data.length, TERMINATOR.length);
+        Arrays.fill(output, HEADER_SIZE + plainLength, output.length, (byte) 0x10);
+        crypto.encrypt(output, HASH_SIZE, output, HEADER_SIZE, paddedLength, output, HEADER_SIZE);
+        return output;
     }
 
-    private static byte[] aes(byte[] key, byte[] iv, byte[] data, int mode) throws IOException {
-        try {
-            Cipher cipher = Cipher.getInstance("AES/CBC/NoPadding");
-            cipher.init(mode, new SecretKeySpec(key, "AES"), new IvParameterSpec(iv));
-            return cipher.doFinal(data);
-        } catch (Exception e) {
-            throw new IOException("Unable to process AES payload", e);
+    /**
+     * Decrypt the ciphertext following the 32 byte hash and 16 byte IV in place. Returns the plaintext offset.
+     */
+    private static int decryptInPlace(RainbirdCryptoEngine crypto, byte[] data, int start, int end)
+            throws IOException {
+        int cipherStart = start + HEADER_SIZE;
+        if (end < cipherStart) {
+            throw new IOException("Encrypted payload too short");
         }
+        crypto.decrypt(data, start + HASH_SIZE, data, cipherStart, end - cipherStart, data, cipherStart);
+        return cipherStart;
     }
 
-    private static String rstrip(String value, char character) {
-        int end = value.length();
-        while (end > 0 && value.charAt(end - 1) == character) {
-            end--;
+    /**
+     * Strip the 0x10 padding, trailing newline, NUL terminator and whitespace by moving the end index.
+     */
+    private static int trimPadding(byte[] data, int start, int end) {
+        int limit = rstrip(data, start, end, (byte) 0x10);
+        limit = rstrip(data, start, limit, (byte) '\n');
+        limit = rstrip(data, start, limit, (byte) 0);
+        while (limit > start && isWhitespace(data[limit - 1])) {
+            limit--;
         }
-        return value.substring(0, end);
+        return limit;
     }
 
-    private static String rstripWhitespace(String value) {
-        int end = value.length();
-        while (end > 0 && Character.isWhitespace(value.charAt(end - 1))) {
-            end--;
+    private static byte[] deriveSessionKey(String password) {
+        return RainbirdCryptoEngine.sha256(password.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int rstrip(byte[] data, int start, int end, byte value) {
+        int limit = end;
+        while (limit > start && data[limit - 1] == value) {
+            limit--;
         }
-        return value.substring(0, end);
+        return limit;
+    }
+
+    private static boolean isWhitespace(byte value) {
+        return value == ' ' || value == '\t' || value == '\n' || value == '\r' || value == 0x0B || value == 0x0C
+                || (value >= 0x1C && value <= 0x1F);
     }
 
     public static Map<String, Object> requestPayload(long id, String method, Map<String, Object> params)
@@ -0,0 +1,18 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.io.IOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Decodes the {@code result} member of a JSON-RPC response straight from the token stream.
+ */
+@NonNullByDefault
+@FunctionalInterface
+interface RainbirdResultBinder<T> {
+
+    /**
+     * Read the result value the reader is positioned at and turn it into {@code T}.
+     */
+    T bind(RainbirdJsonReader reader) throws IOException;
+}
@@ -0,0 +1,80 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Derives request timeouts from smoothed round-trip times, following the RFC 6298 retransmission timer.
+ */
+@NonNullByDefault
+final class RainbirdRttEstimator {
+
+    /** Lower bound so scheduling jitter on the stick does not cause spurious timeouts. */
+    static final long MIN_TIMEOUT_MILLIS = 300;
+    private static final long CLOCK_GRANULARITY_MILLIS = 10;
+    private static final int MAX_BACKOFF_SHIFT = 4;
+
+    private final long ceilingMillis;
+    private final Map<String, Estimate> estimates = new ConcurrentHashMap<>();
+
+    RainbirdRttEstimator(long ceilingMillis) {
+        this.ceilingMillis = Math.max(MIN_TIMEOUT_MILLIS, ceilingMillis);
+    }
+
+    /**
+     * Timeout for the next request of the given kind; the configured ceiling until a sample exists.
+     */
+    long timeoutMillis(String key) {
+        Estimate estimate = estimates.get(key);
+        if (estimate == null) {
+            return ceilingMillis;
+        }
+        return estimate.timeoutMillis(ceilingMillis);
+    }
+
+    void recordSample(String key, long rttMillis) {
+        estimates.computeIfAbsent(key, k -> new Estimate()).sample(Math.max(0, rttMillis));
+    }
+
+    /**
+     * Back off exponentially after a timeout, as a retransmission timer would.
+     */
+    void recordTimeout(String key) {
+        Estimate estimate = estimates.get(key);
+        if (estimate != null) {
+            estimate.backOff();
+        }
+    }
+
+    private static final class Estimate {
+
+        private double srtt;
+        private double rttvar;
+        private boolean initialised;
+        private int backoffShift;
+
+        synchronized void sample(long rtt) {
+            if (!initialised) {
+                srtt = rtt;
+                rttvar = rtt / 2.0;
+                initialised = true;
+            } else {
+                rttvar = 0.75 * rttvar + 0.25 * Math.abs(srtt - rtt);
+                srtt = 0.875 * srtt + 0.125 * rtt;
+            }
+            backoffShift = 0;
+        }
+
+        synchronized void backOff() {
+            backoffShift = Math.min(MAX_BACKOFF_SHIFT, backoffShift + 1);
+        }
+
+        synchronized long timeoutMillis(long ceilingMillis) {
+            double rto = srtt + Math.max(CLOCK_GRANULARITY_MILLIS, 4 * rttvar);
+            long timeout = Math.round(rto) << backoffShift;
+            return Math.max(MIN_TIMEOUT_MILLIS, Math.min(ceilingMillis, timeout));
+        }
+    }
+}
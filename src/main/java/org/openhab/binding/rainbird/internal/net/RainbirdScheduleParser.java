@@ -1,5 +1,6 @@
 package org.openhab.binding.rainbird.internal.net;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -17,6 +18,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 final class RainbirdScheduleParser {
 
+    private static final int RETRIEVE_SCHEDULE_RESPONSE = 0xA0;
+    /** Schedule entries start after the opcode, the page high byte and the subcommand. */
+    private static final int PAYLOAD_OFFSET = 3;
+
     private final int programCount;
     private final Set<Integer> activeZones;
     private final Map<Integer, Program> programs = new HashMap<>();
@@ -27,14 +32,22 @@ final class RainbirdScheduleParser {
     }
 
     public void accept(String data) {
-        if (data.length() < 2) {
-            return;
+        try {
+            accept(RainbirdSipFrame.parse(data));
+        } catch (IOException e) {
+            // Malformed segments are ignored for summaries.
         }
-        String code = data.substring(0, 2);
-        if ("A0".equals(code)) {
-            handleRetrieveSchedule(data);
+    }
+
+    public void accept(RainbirdSipFrame frame) {
+        // Water budget (B0) and acknowledgements (01) are ignored for summaries, as are truncated segments.
+        try {
+            if (frame.length() >= 1 && frame.opcode() == RETRIEVE_SCHEDULE_RESPONSE) {
+                handleRetrieveSchedule(frame);
+            }
+        } catch (IOException e) {
+            // Ignored, see above.
         }
-        // Water budget (B0) and acknowledgements (01) are ignored for summaries.
     }
 
     public List<String> buildSummaries() {
@@ -46,11 +59,11 @@ final class RainbirdScheduleParser {
         return Collections.unmodifiableList(summaries);
     }
 
-    private void handleRetrieveSchedule(String data) {
-        if (data.length() < 6) {
+    private void handleRetrieveSchedule(RainbirdSipFrame frame) throws IOException {
+        if (frame.length() < 3) {
             return;
         }
-        int subcommand = Integer.parseInt(data.substring(4, 6), 16);
+        int subcommand = frame.u8(2);
         if (subcommand == 0) {
             // Controller info (rain delay etc) is not exposed as a summary yet.
             return;
@@ -60,18 +73,18 @@ final class RainbirdScheduleParser {
             return;
         }
         if ((subcommand & 96) == 96) {
-            handleProgramStart(subcommand & ~96, data.substring(6));
+            handleProgramStart(subcommand & ~96, frame);
             return;
         }
         if ((subcommand & 128) == 128) {
-            handleZoneDurations(subcommand & ~128, data.substring(6));
+            handleZoneDurations(subcommand & ~128, frame);
         }
     }
 
-    private void handleProgramStart(int programIndex, String rest) {
+    private void handleProgramStart(int programIndex, RainbirdSipFrame frame) throws IOException {
         Program program = programs.computeIfAbsent(programIndex, Program::new);
-        for (int i = 0; i + 4 <= rest.length(); i += 4) {
-            int value = Integer.parseInt(rest.substring(i, i + 4), 16);
+        for (int offset = PAYLOAD_OFFSET; offset + 2 <= frame.length(); offset += 2) {
+            int value = frame.u16(offset);
             if (value >= 65535) {
                 continue;
             }
@@ -81,11 +94,11 @@ final class RainbirdScheduleParser {
         }
     }
 
-    private void handleZoneDurations(int zonePage, String rest) {
+    private void handleZoneDurations(int zonePage, RainbirdSipFrame frame) throws IOException {
         int zoneBase = zonePage * 2;
         List<Integer> durations = new ArrayList<>();
-        for (int i = 0; i + 4 <= rest.length(); i += 4) {
-            durations.add(Integer.parseInt(rest.substring(i, i + 4), 16));
+        for (int offset = PAYLOAD_OFFSET; offset + 2 <= frame.length(); offset += 2) {
+            durations.add(frame.u16(offset));
         }
         int entriesPerZone = durations.size() / 2;
         if (entriesPerZone == 0) {
@@ -0,0 +1,50 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Coalesces identical concurrent reads so that they share one exchange with the stick.
+ */
+@NonNullByDefault
+final class RainbirdSingleFlight {
+
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Join the in-flight call registered under {@code key} or start a new one using {@code call}.
+     * Each caller receives its own dependent future, so cancelling one does not affect the others.
+     */
+    <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> shared = new CompletableFuture<>();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            return existing.copy();
+        }
+        CompletableFuture<T> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((result, error) -> {
+            // Deregister first so callers arriving after completion start a fresh exchange.
+            inFlight.remove(key, shared);
+            if (error != null) {
+                shared.completeExceptionally(RainbirdFutures.unwrap(error));
+            } else {
+                shared.complete(result);
+            }
+        });
+        return shared.copy();
+    }
+
+    int size() {
+        return inFlight.size();
+    }
+}
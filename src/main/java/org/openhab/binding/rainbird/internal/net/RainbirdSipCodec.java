@@ -0,0 +1,90 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Encodes SIP frames for the {@code tunnelSip} call. A frame is the opcode byte followed by big-endian fields of fixed
+ * byte width, written as upper case hex. Digits come from a precomputed table into a per-thread scratch buffer, so
+ * the only allocation per frame is the resulting string. Responses are decoded by {@link RainbirdSipFrame}.
+ */
+@NonNullByDefault
+final class RainbirdSipCodec {
+
+    /** Longest frame the stick accepts in one tunnel request, in bytes. */
+    static final int MAX_FRAME_BYTES = 16;
+
+    private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+    /** Two hex digits per byte value, high digit first. */
+    private static final char[] BYTE_TO_HEX = new char[512];
+
+    /** Value of an ASCII hex digit, -1 for any other character. */
+    private static final byte[] HEX_TO_NIBBLE = new byte[128];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            BYTE_TO_HEX[i << 1] = DIGITS[i >>> 4];
+            BYTE_TO_HEX[(i << 1) + 1] = DIGITS[i & 0x0F];
+        }
+        Arrays.fill(HEX_TO_NIBBLE, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_TO_NIBBLE[DIGITS[i]] = (byte) i;
+            HEX_TO_NIBBLE[Character.toLowerCase(DIGITS[i])] = (byte) i;
+        }
+    }
+
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal
+            .withInitial(() -> new char[MAX_FRAME_BYTES * 2]);
+
+    private RainbirdSipCodec() {
+        // Utility class
+    }
+
+    /**
+     * Encode a frame with up to two fields. Values are truncated to their field width; fields beyond
+     * {@code widths.length} are ignored.
+     */
+    static String encode(int opcode, int[] widths, int first, int second) {
+        char[] out = SCRATCH.get();
+        int pos = putByte(out, 0, opcode);
+        if (widths.length > 0) {
+            pos = putField(out, pos, first, widths[0]);
+        }
+        if (widths.length > 1) {
+            pos = putField(out, pos, second, widths[1]);
+        }
+        return new String(out, 0, pos);
+    }
+
+    /**
+     * Two-digit hex representation of a single byte, used for constant prefixes.
+     */
+    static String hex(int value) {
+        char[] out = SCRATCH.get();
+        putByte(out, 0, value);
+        return new String(out, 0, 2);
+    }
+
+    /**
+     * Value of a single hex digit, or -1 if {@code c} is not one.
+     */
+    static int nibble(char c) {
+        return c < HEX_TO_NIBBLE.length ? HEX_TO_NIBBLE[c] : -1;
+    }
+
+    private static int putField(char[] out, int pos, int value, int width) {
+        int next = pos;
+        for (int shift = (width - 1) * 8; shift >= 0; shift -= 8) {
+            next = putByte(out, next, value >>> shift);
+        }
+        return next;
+    }
+
+    private static int putByte(char[] out, int pos, int value) {
+        int index = (value & 0xFF) << 1;
+        out[pos] = BYTE_TO_HEX[index];
+        out[pos + 1] = BYTE_TO_HEX[index + 1];
+        return pos + 2;
+    }
+}
@@ -0,0 +1,85 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import java.io.IOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Decoded view of a SIP response from the {@code tunnelSip} {@code data} field. The hex string is converted to bytes
+ * once; fields are then read with bounds-checked accessors without creating intermediate strings.
+ */
+@NonNullByDefault
+final class RainbirdSipFrame {
+
+    private final String hex;
+    private final byte[] data;
+    private final int nibbles;
+
+    private RainbirdSipFrame(String hex, byte[] data, int nibbles) {
+        this.hex = hex;
+        this.data = data;
+        this.nibbles = nibbles;
+    }
+
+    /**
+     * Decode a hex string. A trailing odd digit is kept and can be read with {@link #nibble(int)}.
+     */
+    static RainbirdSipFrame parse(String hex) throws IOException {
+        int nibbles = hex.length();
+        byte[] data = new byte[(nibbles + 1) / 2];
+        for (int i = 0; i < nibbles; i++) {
+            int value = RainbirdSipCodec.nibble(hex.charAt(i));
+            if (value < 0) {
+                throw new IOException("Invalid hex digit in Rain Bird tunnel response " + hex);
+            }
+            data[i >> 1] |= (byte) ((i & 1) == 0 ? value << 4 : value);
+        }
+        return new RainbirdSipFrame(hex, data, nibbles);
+    }
+
+    /**
+     * Number of complete bytes in the frame.
+     */
+    int length() {
+        return nibbles / 2;
+    }
+
+    int opcode() throws IOException {
+        return u8(0);
+    }
+
+    int u8(int offset) throws IOException {
+        checkBytes(offset, 1);
+        return data[offset] & 0xFF;
+    }
+
+    /**
+     * Big-endian unsigned 16 bit value starting at byte {@code offset}.
+     */
+    int u16(int offset) throws IOException {
+        checkBytes(offset, 2);
+        return ((data[offset] & 0xFF) << 8) | (data[offset + 1] & 0xFF);
+    }
+
+    /**
+     * Four bit value at nibble position {@code index}; even positions are the high half of a byte.
+     */
+    int nibble(int index) throws IOException {
+        if (index < 0 || index >= nibbles) {
+            throw new IOException("Rain Bird tunnel response truncated");
+        }
+        int value = data[index >> 1];
+        return ((index & 1) == 0 ? value >> 4 : value) & 0x0F;
+    }
+
+    private void checkBytes(int offset, int count) throws IOException {
+        if (offset < 0 || offset + count > length()) {
+            throw new IOException("Rain Bird tunnel response truncated");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return hex;
+    }
+}
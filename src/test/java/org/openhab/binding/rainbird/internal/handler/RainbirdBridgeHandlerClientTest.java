@@ -0,0 +1,85 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rainbird.internal.handler.RainbirdBridgeHandler.Client;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.WeatherStatus;
+
+/**
+ * Verifies that the cloud lookup of the station name never holds up a poll and is limited per client.
+ */
+class RainbirdBridgeHandlerClientTest {
+
+    private final RainbirdClient localClient = mock(RainbirdClient.class);
+    private final RainbirdClient cloudClient = mock(RainbirdClient.class);
+
+    @Test
+    void stalledCloudRequestDoesNotBlockTheCaller() {
+        when(cloudClient.getWeatherAndStatusAsync(anyString(), anyString(), anyString()))
+                .thenReturn(new CompletableFuture<>());
+        Client client = new Client(localClient, cloudClient);
+
+        CompletableFuture<String> first = client.requestCustomStationName("stick", "DE", "10115");
+        assertNotNull(first);
+        assertFalse(first.isDone());
+
+        // The next poll neither waits for nor queues behind the stalled request.
+        assertNull(client.requestCustomStationName("stick", "DE", "10115"));
+        verify(cloudClient, times(1)).getWeatherAndStatusAsync(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void failedCloudRequestReleasesTheNextOne() {
+        when(cloudClient.getWeatherAndStatusAsync(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("cloud down")))
+                .thenReturn(CompletableFuture.completedFuture(new WeatherStatus("stick", "Garden", Map.of())));
+        Client client = new Client(localClient, cloudClient);
+
+        CompletableFuture<String> failed = client.requestCustomStationName("stick", "DE", "10115");
+        assertNotNull(failed);
+        assertTrue(failed.isCompletedExceptionally());
+
+        CompletableFuture<String> retry = client.requestCustomStationName("stick", "DE", "10115");
+        assertNotNull(retry);
+        assertEquals("Garden", retry.join());
+    }
+
+    @Test
+    void reinitializedHandlerIsNotBlockedByThePreviousClient() {
+        when(cloudClient.getWeatherAndStatusAsync(anyString(), anyString(), anyString()))
+                .thenReturn(new CompletableFuture<>())
+                .thenReturn(CompletableFuture.completedFuture(new WeatherStatus("stick", "Garden", Map.of())));
+        Client previous = new Client(localClient, cloudClient);
+        Client current = new Client(localClient, cloudClient);
+
+        assertNotNull(previous.requestCustomStationName("stick", "DE", "10115"));
+        CompletableFuture<String> request = current.requestCustomStationName("stick", "DE", "10115");
+        assertNotNull(request);
+        assertEquals("Garden", request.join());
+    }
+
+    @Test
+    void missingCloudClientCompletesWithoutName() {
+        Client client = new Client(localClient, null);
+
+        CompletableFuture<String> request = client.requestCustomStationName("stick", "DE", "10115");
+        assertNotNull(request);
+        assertNull(request.join());
+        assertNotNull(client.requestCustomStationName("stick", "DE", "10115"));
+    }
+}
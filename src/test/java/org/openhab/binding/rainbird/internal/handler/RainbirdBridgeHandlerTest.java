@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.jetty.client.HttpClient;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Disabled;
 import org.openhab.binding.rainbird.internal.RainbirdBindingConstants;
@@ -80,7 +81,7 @@ class RainbirdBridgeHandlerTest {
         private final Map<String, State> recorded = new java.util.HashMap<>();
 
         RecordingBridgeHandler(Bridge bridge) {
-            super(bridge);
+            super(bridge, new HttpClient());
         }
 
         @Override
@@ -0,0 +1,42 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+
+class RainbirdChannelStateCacheTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void onlyChangedStatesArePublished() {
+        RainbirdChannelStateCache cache = new RainbirdChannelStateCache();
+
+        assertTrue(cache.shouldPublish("zoneActive1", OnOffType.OFF, 0));
+        assertFalse(cache.shouldPublish("zoneActive1", OnOffType.OFF, 30 * SECOND));
+        assertTrue(cache.shouldPublish("zoneRemaining1", new DecimalType(0), 30 * SECOND));
+        assertFalse(cache.shouldPublish("zoneRemaining1", new DecimalType(0), 60 * SECOND));
+        assertTrue(cache.shouldPublish("zoneRemaining1", new DecimalType(120), 90 * SECOND));
+        assertEquals(new DecimalType(120), cache.get("zoneRemaining1"));
+
+        cache.clear();
+        assertNull(cache.get("zoneRemaining1"));
+        assertTrue(cache.shouldPublish("zoneActive1", OnOffType.OFF, 120 * SECOND));
+    }
+
+    @Test
+    void unchangedStateIsRepublishedAfterMaxAge() {
+        RainbirdChannelStateCache cache = new RainbirdChannelStateCache();
+        cache.setMaxAgeSeconds(300);
+
+        assertTrue(cache.shouldPublish("rainDelay", new DecimalType(0), 0));
+        assertFalse(cache.shouldPublish("rainDelay", new DecimalType(0), 299 * SECOND));
+        assertTrue(cache.shouldPublish("rainDelay", new DecimalType(0), 300 * SECOND));
+        assertFalse(cache.shouldPublish("rainDelay", new DecimalType(0), 330 * SECOND));
+    }
+}
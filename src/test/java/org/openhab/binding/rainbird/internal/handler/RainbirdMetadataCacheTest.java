@@ -0,0 +1,51 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class RainbirdMetadataCacheTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void successIsReusedUntilPositiveTtlExpires() {
+        RainbirdMetadataCache<String> cache = new RainbirdMetadataCache<>(3600, 60, 600);
+
+        assertTrue(cache.isDue(0));
+        cache.succeeded("ESP-TM2", 0);
+        assertFalse(cache.isDue(3599 * SECOND));
+        assertTrue(cache.isDue(3600 * SECOND));
+        assertEquals("ESP-TM2", cache.get());
+    }
+
+    @Test
+    void repeatedFailuresBackOffAndKeepLastValue() {
+        RainbirdMetadataCache<String> cache = new RainbirdMetadataCache<>(3600, 60, 200);
+
+        cache.failed(0);
+        assertNull(cache.get());
+        assertFalse(cache.isDue(59 * SECOND));
+        assertTrue(cache.isDue(60 * SECOND));
+
+        cache.failed(60 * SECOND);
+        assertFalse(cache.isDue(179 * SECOND));
+        assertTrue(cache.isDue(180 * SECOND));
+
+        cache.failed(180 * SECOND);
+        // 240 s would exceed the ceiling of 200 s.
+        assertTrue(cache.isDue(380 * SECOND));
+
+        cache.succeeded("1.2.3", 380 * SECOND);
+        cache.failed(3980 * SECOND);
+        assertEquals("1.2.3", cache.get());
+        assertTrue(cache.isDue(4040 * SECOND));
+
+        cache.clear();
+        assertTrue(cache.isDue(4040 * SECOND));
+        assertNull(cache.get());
+    }
+}
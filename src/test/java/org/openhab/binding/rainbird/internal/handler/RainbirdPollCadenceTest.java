@@ -0,0 +1,49 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.CombinedState;
+
+/**
+ * Verifies the state dependent polling interval.
+ */
+class RainbirdPollCadenceTest {
+
+    private static CombinedState state(int delayDays, int remainingSeconds, int activeStation) {
+        return new CombinedState(delayDays, 0, 1, 100, remainingSeconds, activeStation, LocalDateTime.of(2024, 6, 1,
+                6, 0));
+    }
+
+    @Test
+    void pollsFastWhileZoneRuns() {
+        RainbirdPollCadence cadence = new RainbirdPollCadence(30);
+        assertEquals(RainbirdPollCadence.ACTIVE_SECONDS, cadence.nextDelaySeconds(state(0, 300, 2)));
+    }
+
+    @Test
+    void pollsJustAfterRemainingRuntimeEnds() {
+        RainbirdPollCadence cadence = new RainbirdPollCadence(30);
+        assertEquals(6, cadence.nextDelaySeconds(state(0, 4, 2)));
+        // The first idle poll after watering stays fast to catch the next zone of a program.
+        assertEquals(RainbirdPollCadence.ACTIVE_SECONDS, cadence.nextDelaySeconds(state(0, 0, 0)));
+        assertEquals(120, cadence.nextDelaySeconds(state(0, 0, 0)));
+    }
+
+    @Test
+    void slowsDownFurtherDuringRainDelay() {
+        RainbirdPollCadence cadence = new RainbirdPollCadence(30);
+        assertEquals(300, cadence.nextDelaySeconds(state(2, 0, 0)));
+        assertEquals(RainbirdPollCadence.MAX_RAIN_DELAY_SECONDS,
+                new RainbirdPollCadence(600).nextDelaySeconds(state(2, 0, 0)));
+    }
+
+    @Test
+    void usesConfiguredIntervalWithoutState() {
+        assertEquals(45, new RainbirdPollCadence(45).nextDelaySeconds(null));
+        assertEquals(RainbirdPollCadence.MAX_IDLE_SECONDS,
+                new RainbirdPollCadence(300).nextDelaySeconds(state(0, 0, 0)));
+    }
+}
@@ -0,0 +1,37 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the local remaining-time extrapolation.
+ */
+class RainbirdRemainingTimeCountdownTest {
+
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    void countsDownFromAnchorAndStopsAtZero() {
+        RainbirdRemainingTimeCountdown countdown = new RainbirdRemainingTimeCountdown();
+        countdown.anchor(3, 20, START);
+        assertEquals(20, countdown.remainingSeconds(3, START));
+        assertEquals(15, countdown.remainingSeconds(3, START + TimeUnit.MILLISECONDS.toNanos(5900)));
+        assertEquals(0, countdown.remainingSeconds(3, START + TimeUnit.SECONDS.toNanos(60)));
+        assertEquals(0, countdown.remainingSeconds(2, START));
+    }
+
+    @Test
+    void nextPollCorrectsTheAnchor() {
+        RainbirdRemainingTimeCountdown countdown = new RainbirdRemainingTimeCountdown();
+        countdown.anchor(1, 300, START);
+        long later = START + TimeUnit.SECONDS.toNanos(30);
+        countdown.anchor(1, 280, later);
+        assertEquals(270, countdown.remainingSeconds(1, later + TimeUnit.SECONDS.toNanos(10)));
+        countdown.anchor(0, 0, later);
+        assertEquals(0, countdown.getZone());
+        assertEquals(0, countdown.remainingSeconds(1, later));
+    }
+}
@@ -0,0 +1,56 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class RainbirdStartupCoordinatorTest {
+
+    @Test
+    void firstPollsAreStaggered() {
+        AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        RainbirdStartupCoordinator coordinator = new RainbirdStartupCoordinator(2, 2000, 0, now::get, new Random(1));
+
+        assertEquals(0, coordinator.nextStartDelayMillis());
+        assertEquals(2000, coordinator.nextStartDelayMillis());
+        assertEquals(4000, coordinator.nextStartDelayMillis());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertEquals(1000, coordinator.nextStartDelayMillis());
+
+        // Once all slots have passed, a late bridge starts right away.
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertEquals(0, coordinator.nextStartDelayMillis());
+    }
+
+    @Test
+    void jitterStaysWithinBound() {
+        AtomicLong now = new AtomicLong();
+        RainbirdStartupCoordinator coordinator = new RainbirdStartupCoordinator(2, 2000, 500, now::get, new Random(7));
+
+        for (int i = 0; i < 20; i++) {
+            long delay = coordinator.nextStartDelayMillis();
+            assertTrue(delay >= i * 2000L && delay < i * 2000L + 500, Long.toString(delay));
+        }
+    }
+
+    @Test
+    void concurrentStartupsAreCapped() {
+        RainbirdStartupCoordinator coordinator = new RainbirdStartupCoordinator(2, 2000, 0, System::nanoTime,
+                new Random());
+
+        assertTrue(coordinator.tryBeginStartup());
+        assertTrue(coordinator.tryBeginStartup());
+        assertFalse(coordinator.tryBeginStartup());
+        assertEquals(2000, coordinator.retryDelayMillis());
+
+        coordinator.endStartup();
+        assertTrue(coordinator.tryBeginStartup());
+    }
+}
@@ -0,0 +1,98 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.CombinedState;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ControllerFirmwareVersion;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ControllerStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.NetworkStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.PollingResult;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ProgramStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ScheduleSnapshot;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.WifiStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ZipCodeInfo;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ZoneStatus;
+
+class RainbirdWarmStartSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsPollingResultAndMetadata() throws Exception {
+        ControllerStatus controller = new ControllerStatus(new NetworkStatus(true, false),
+                new WifiStatus(-61, "GardenWiFi", "AA:BB:CC:DD:EE:FF", null),
+                new CombinedState(2, 0, 1, 110, 300, 3, LocalDateTime.of(2024, 5, 1, 6, 15)),
+                Instant.parse("2024-05-01T04:15:00Z"));
+        PollingResult result = new PollingResult(controller,
+                new ProgramStatus(2, List.of("Program A: Starts 04:00; Zones 1=25m")),
+                new ZoneStatus(Set.of(1, 2, 3), 6, 3, 300));
+        RainbirdWarmStartSnapshot snapshot = new RainbirdWarmStartSnapshot("192.168.1.20", result, null,
+                new ControllerFirmwareVersion(2, 9, 1), new ZipCodeInfo("10115", "DE"), null,
+                new ScheduleSnapshot("AA:BB:CC:DD:EE:FF", "A000/2/6/[1, 2, 3]", List.of("Program A"),
+                        Instant.parse("2024-05-01T04:00:00Z")));
+        Path file = directory.resolve("rainbird").resolve("rainbird_bridge_1.snapshot");
+
+        snapshot.write(file);
+        RainbirdWarmStartSnapshot restored = RainbirdWarmStartSnapshot.read(file);
+
+        assertNotNull(restored);
+        assertEquals("192.168.1.20", restored.getHost());
+        PollingResult restoredResult = restored.getResult();
+        assertEquals(Instant.parse("2024-05-01T04:15:00Z"), restoredResult.getControllerStatus().getRefreshedAt());
+        assertEquals("GardenWiFi", restoredResult.getControllerStatus().getWifiStatus().getSsid());
+        assertNull(restoredResult.getControllerStatus().getWifiStatus().getFirmwareVersion());
+        assertEquals(LocalDateTime.of(2024, 5, 1, 6, 15),
+                restoredResult.getControllerStatus().getCombinedState().getControllerTime());
+        assertEquals(110, restoredResult.getControllerStatus().getCombinedState().getSeasonalAdjust());
+        assertEquals(List.of("Program A: Starts 04:00; Zones 1=25m"),
+                restoredResult.getProgramStatus().getSummaries());
+        assertEquals(Set.of(1, 2, 3), restoredResult.getZoneStatus().getAvailableZones());
+        assertEquals(300, restoredResult.getZoneStatus().getRemainingRuntime());
+        assertNull(restored.getModel());
+        assertEquals("2.9.1", restored.getControllerFirmware().asVersionString());
+        assertEquals("DE", restored.getZipCode().getCountry());
+        assertNull(restored.getCustomStationName());
+        assertEquals("A000/2/6/[1, 2, 3]", restored.getSchedule().getFingerprint());
+        assertEquals(Instant.parse("2024-05-01T04:00:00Z"), restored.getSchedule().getFetchedAt());
+    }
+
+    @Test
+    void missingOrForeignFileIsIgnored() throws Exception {
+        Path file = directory.resolve("missing.snapshot");
+        assertNull(RainbirdWarmStartSnapshot.read(file));
+
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6 });
+        assertNull(RainbirdWarmStartSnapshot.read(file));
+    }
+
+    @Test
+    void damagedFileFailsWithIOException() throws Exception {
+        ControllerStatus controller = new ControllerStatus(new NetworkStatus(true, true),
+                new WifiStatus(-50, null, null, null),
+                new CombinedState(1, 0, 0, 100, 0, 0, LocalDateTime.of(2024, 5, 1, 6, 15)), Instant.EPOCH);
+        PollingResult result = new PollingResult(controller, new ProgramStatus(0, List.of()),
+                new ZoneStatus(Set.of(1), 0, 0, 0));
+        byte[] data = new RainbirdWarmStartSnapshot("192.168.1.20", result, null, null, null, null, null).toBytes();
+        // Magic und Version bleiben intakt, nur die Controller-Zeit ist unlesbar.
+        String text = new String(data, StandardCharsets.ISO_8859_1).replace("2024-05-01T06:15", "2024-13-01T06:15");
+        Path file = directory.resolve("damaged.snapshot");
+        Files.write(file, text.getBytes(StandardCharsets.ISO_8859_1));
+
+        assertThrows(IOException.class, () -> RainbirdWarmStartSnapshot.read(file));
+    }
+}
@@ -0,0 +1,67 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the zone channels are only checked when the layout changes.
+ */
+class RainbirdZoneChannelLayoutTest {
+
+    private final RainbirdZoneChannelLayout layout = new RainbirdZoneChannelLayout();
+    private final List<Integer> verified = new ArrayList<>();
+
+    @Test
+    void unchangedZoneCountSkipsTheChannelCheck() {
+        assertTrue(layout.check(6, this::verify));
+        assertFalse(layout.check(6, this::verify));
+        assertFalse(layout.check(6, this::verify));
+
+        assertEquals(List.of(6), verified);
+    }
+
+    @Test
+    void changedZoneCountChecksAgain() {
+        layout.check(6, this::verify);
+        assertTrue(layout.check(8, this::verify));
+        assertTrue(layout.check(6, this::verify));
+
+        assertEquals(List.of(6, 8, 6), verified);
+    }
+
+    @Test
+    void resetChecksTheNextPollAgain() {
+        layout.check(6, this::verify);
+        layout.reset();
+
+        assertTrue(layout.check(6, this::verify));
+        assertEquals(List.of(6, 6), verified);
+    }
+
+    @Test
+    void failedCheckIsRetried() {
+        assertTrue(layout.check(4, count -> false));
+        assertTrue(layout.check(4, this::verify));
+        assertFalse(layout.check(4, this::verify));
+
+        assertEquals(List.of(4), verified);
+    }
+
+    @Test
+    void fingerprintDependsOnZoneCountAndVersion() {
+        assertEquals(RainbirdZoneChannelLayout.fingerprint(6), RainbirdZoneChannelLayout.fingerprint(6));
+        assertTrue(RainbirdZoneChannelLayout.fingerprint(6) != RainbirdZoneChannelLayout.fingerprint(7));
+        assertEquals(RainbirdZoneChannelLayout.VERSION, RainbirdZoneChannelLayout.fingerprint(0) >>> 32);
+    }
+
+    private boolean verify(int zoneCount) {
+        verified.add(Integer.valueOf(zoneCount));
+        return true;
+    }
+}
@@ -0,0 +1,123 @@
+package org.openhab.binding.rainbird.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies which zone state reaches the registered zone handlers.
+ */
+class RainbirdZoneStateDispatcherTest {
+
+    private static final long START = 1_000_000_000L;
+
+    private final RainbirdRemainingTimeCountdown countdown = new RainbirdRemainingTimeCountdown();
+    private final RainbirdZoneStateDispatcher dispatcher = new RainbirdZoneStateDispatcher(countdown);
+
+    @Test
+    void lateRegistrationReceivesLastLiveState() {
+        countdown.anchor(2, 120, START);
+        dispatcher.update(2, START);
+        dispatcher.markLive(START);
+
+        RecordingListener zone2 = new RecordingListener(2);
+        dispatcher.register(zone2, START + TimeUnit.SECONDS.toNanos(20));
+
+        assertEquals(List.of("true/100"), zone2.updates);
+    }
+
+    @Test
+    void restoredSnapshotIsNotPushed() {
+        RecordingListener zone1 = new RecordingListener(1);
+        dispatcher.register(zone1, START);
+        // The warm-start snapshot sets the state before any poll has succeeded.
+        dispatcher.update(0, START);
+
+        RecordingListener zone2 = new RecordingListener(2);
+        dispatcher.register(zone2, START);
+        dispatcher.publish(START);
+
+        assertEquals(List.of(), zone1.updates);
+        assertEquals(List.of(), zone2.updates);
+
+        dispatcher.markLive(START);
+        assertEquals(List.of("false/0"), zone1.updates);
+        assertEquals(List.of("false/0"), zone2.updates);
+    }
+
+    @Test
+    void eachZoneReceivesItsOwnState() {
+        RecordingListener zone1 = new RecordingListener(1);
+        RecordingListener zone3 = new RecordingListener(3);
+        dispatcher.register(zone1, START);
+        dispatcher.register(zone3, START);
+        dispatcher.markLive(START);
+
+        countdown.anchor(3, 300, START);
+        dispatcher.update(3, START);
+        dispatcher.publish(START + TimeUnit.SECONDS.toNanos(60));
+
+        assertEquals(List.of("false/0", "false/0", "false/0"), zone1.updates);
+        assertEquals(List.of("false/0", "true/300", "true/240"), zone3.updates);
+    }
+
+    @Test
+    void resetWithholdsStateUntilTheNextPoll() {
+        RecordingListener zone1 = new RecordingListener(1);
+        dispatcher.register(zone1, START);
+        dispatcher.markLive(START);
+        dispatcher.reset();
+
+        countdown.anchor(1, 60, START);
+        dispatcher.update(1, START);
+        dispatcher.unregister(zone1);
+        dispatcher.markLive(START);
+
+        assertEquals(List.of("false/0"), zone1.updates);
+    }
+
+    @Test
+    void failingListenerDoesNotStopOthers() {
+        dispatcher.register(new RainbirdZoneStateListener() {
+            @Override
+            public int getZoneNumber() {
+                return 1;
+            }
+
+            @Override
+            public void zoneStateUpdated(boolean active, int remainingSeconds) {
+                throw new IllegalStateException("boom");
+            }
+        }, START);
+        RecordingListener zone2 = new RecordingListener(2);
+        dispatcher.register(zone2, START);
+
+        dispatcher.markLive(START);
+
+        assertEquals(List.of("false/0"), zone2.updates);
+    }
+
+    private static final class RecordingListener implements RainbirdZoneStateListener {
+
+        private final int zone;
+        private final List<String> updates = new ArrayList<>();
+
+        RecordingListener(int zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public int getZoneNumber() {
+            return zone;
+        }
+
+        @Override
+        public void zoneStateUpdated(boolean active, int remainingSeconds) {
+            updates.add(active + "/" + remainingSeconds);
+        }
+    }
+}
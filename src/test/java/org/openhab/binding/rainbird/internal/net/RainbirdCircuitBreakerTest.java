@@ -0,0 +1,59 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rainbird.internal.net.RainbirdCircuitBreaker.Permit;
+import org.openhab.binding.rainbird.internal.net.RainbirdCircuitBreaker.State;
+
+/**
+ * Tests the circuit breaker state transitions and backoff.
+ */
+class RainbirdCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1000);
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        RainbirdCircuitBreaker breaker = new RainbirdCircuitBreaker(2, 1000, 8000, now::get, new Random(1));
+        breaker.onFailure();
+        assertEquals(State.CLOSED, breaker.getState());
+        breaker.onFailure();
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(Permit.REJECTED, breaker.tryAcquire(true));
+        long delay = breaker.retryDelayMillis();
+        assertTrue(delay >= 500 && delay <= 1000, "delay " + delay);
+    }
+
+    @Test
+    void admitsSingleProbeAndClosesOnSuccess() {
+        RainbirdCircuitBreaker breaker = new RainbirdCircuitBreaker(1, 1000, 8000, now::get, new Random(1));
+        breaker.onFailure();
+        now.addAndGet(1000);
+        assertEquals(Permit.REJECTED, breaker.tryAcquire(false));
+        assertEquals(Permit.PROBE, breaker.tryAcquire(true));
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertEquals(Permit.REJECTED, breaker.tryAcquire(true));
+        breaker.onSuccess();
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(Permit.ALLOWED, breaker.tryAcquire(false));
+    }
+
+    @Test
+    void failedProbeBacksOffExponentially() {
+        RainbirdCircuitBreaker breaker = new RainbirdCircuitBreaker(1, 1000, 4000, now::get, new Random(1));
+        breaker.onFailure();
+        for (long ceiling : new long[] { 2000, 4000, 4000 }) {
+            now.addAndGet(breaker.retryDelayMillis());
+            assertEquals(Permit.PROBE, breaker.tryAcquire(true));
+            breaker.onFailure();
+            assertEquals(State.OPEN, breaker.getState());
+            long delay = breaker.retryDelayMillis();
+            assertTrue(delay >= ceiling / 2 && delay <= ceiling, "delay " + delay);
+        }
+    }
+}
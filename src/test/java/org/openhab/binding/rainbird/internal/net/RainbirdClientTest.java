@@ -2,28 +2,51 @@ package org.openhab.binding.rainbird.internal.net;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpServer;
 
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.binding.rainbird.internal.config.RainbirdConfiguration;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.CombinedState;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.ControllerStatus;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.PollingResult;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.ProgramStatus;
+import org.openhab.binding.rainbird.internal.net.RainbirdClient.ScheduleSnapshot;
 import org.openhab.binding.rainbird.internal.net.RainbirdClient.ZoneStatus;
 import org.openhab.binding.rainbird.internal.net.RainbirdCommandResult;
 
@@ -34,35 +57,27 @@ class RainbirdClientTest {
 
     private static final String PASSWORD = "testpass";
 
+    private final HttpClient httpClient = new HttpClient();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void startClient() throws Exception {
+        httpClient.start();
+    }
+
+    @AfterEach
+    void stopClient() throws Exception {
+        httpClient.stop();
+        executor.shutdownNow();
+    }
+
     @Test
     void fetchStateAggregatesResponses() throws IOException, InterruptedException {
         RainbirdConfiguration configuration = new RainbirdConfiguration();
         configuration.host = "127.0.0.1";
         configuration.password = PASSWORD;
 
-        List<ExpectedCall> calls = new ArrayList<>();
-        calls.add(ExpectedCall.of("getNetworkStatus", Map.of("networkUp", true, "internetUp", true)));
-        calls.add(ExpectedCall.of("getWifiParams", Map.of("rssi", -59)));
-        calls.add(ExpectedCall.of("getSettings", Map.of("numPrograms", 3)));
-        calls.add(ExpectedCall.of("tunnelSip", Map.of("data", "83003F000000")));
-        calls.add(ExpectedCall.of("tunnelSip", Map.of("data", "CC0A1E200977E80000000200FA001405")));
-
-        List<String> scheduleResponses = List.of(
-                "A0000000000400",
-                "A000106A0601006401",
-                "A000117F0300002D00",
-                "A00012000300006400",
-                "A0006000F0FFFFFFFFFFFF",
-                "A000610168FFFFFFFFFFFF",
-                "A00062FFFFFFFFFFFFFFFF",
-                "A00080001900010000001400020000",
-                "A00081000700030000001400040000",
-                "A00082000A00060000000000000000");
-        for (String response : scheduleResponses) {
-            calls.add(ExpectedCall.of("tunnelSip", Map.of("data", response)));
-        }
-
-        StubRainbirdClient client = new StubRainbirdClient(configuration, calls);
+        StubRainbirdClient client = new StubRainbirdClient(configuration, fullPollCalls());
         PollingResult result = client.poll();
         ControllerStatus controller = result.getControllerStatus();
         ProgramStatus programs = result.getProgramStatus();
@@ -92,6 +107,90 @@ class RainbirdClientTest {
         assertEquals("200000", firstSchedule.get("data"));
     }
 
+    @Test
+    void fastTierPollOnlyRefreshesCombinedState() throws IOException, InterruptedException {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.password = PASSWORD;
+
+        StubRainbirdClient client = new StubRainbirdClient(configuration, fullPollCalls());
+        // Asking for the fast tier before any poll completed still fetches everything.
+        RainbirdFutures.await(client.pollAsync(Set.of(RainbirdClient.PollTier.FAST)));
+        int fullPollCalls = client.getRecordedParams().size();
+
+        client.expect(ExpectedCall.of("tunnelSip", Map.of("data", "CC0A1E200977E80000000200FA000000")));
+        PollingResult result = RainbirdFutures.await(client.pollAsync(Set.of(RainbirdClient.PollTier.FAST)));
+
+        assertEquals(fullPollCalls + 1, client.getRecordedParams().size());
+        assertEquals("4C", client.getRecordedParams().get(fullPollCalls).get("data"));
+        assertEquals(0, result.getControllerStatus().getCombinedState().getActiveStation());
+        assertEquals(-59, result.getControllerStatus().getWifiStatus().getRssi());
+        assertEquals(3, result.getProgramStatus().getSummaries().size());
+        assertEquals(6, result.getZoneStatus().getAvailableZones().size());
+
+        client.expect(ExpectedCall.of("getNetworkStatus", Map.of("networkUp", true, "internetUp", false)));
+        client.expect(ExpectedCall.of("getWifiParams", Map.of("rssi", -70)));
+        client.expect(ExpectedCall.of("tunnelSip", Map.of("data", "CC0A1E200977E80000000200FA000000")));
+        result = RainbirdFutures.await(client.pollAsync(Set.of(RainbirdClient.PollTier.MEDIUM)));
+
+        assertEquals(-70, result.getControllerStatus().getWifiStatus().getRssi());
+        assertFalse(result.getControllerStatus().getNetworkStatus().isInternetUp());
+        assertEquals(3, result.getProgramStatus().getSummaries().size());
+    }
+
+    @Test
+    void scheduleIsReusedUntilControllerInfoChanges() throws IOException, InterruptedException {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.password = PASSWORD;
+
+        StubRainbirdClient client = new StubRainbirdClient(configuration, fullPollCalls());
+        List<String> first = client.poll().getProgramStatus().getSummaries();
+
+        List<ExpectedCall> calls = fullPollCalls();
+        // Same controller info page: nothing beyond page 0 is requested.
+        calls.subList(6, calls.size()).clear();
+        calls.forEach(client::expect);
+        int before = client.getRecordedParams().size();
+        List<String> second = client.poll().getProgramStatus().getSummaries();
+        assertEquals(first, second);
+        assertEquals(before + 6, client.getRecordedParams().size());
+
+        calls = fullPollCalls();
+        calls.set(5, ExpectedCall.of("tunnelSip", Map.of("data", "A0000000000500")));
+        calls.forEach(client::expect);
+        List<String> third = client.poll().getProgramStatus().getSummaries();
+        assertEquals(first, third);
+        assertEquals(before + 6 + calls.size(), client.getRecordedParams().size());
+    }
+
+    @Test
+    void weatherStatusBindsLenientlyAndSkipsUnknownMembers() throws IOException, InterruptedException {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.password = PASSWORD;
+
+        Map<String, Object> stations = new LinkedHashMap<>();
+        stations.put("1", " Lawn ");
+        stations.put("x", "Ignored");
+        stations.put("3", "");
+        Map<String, Object> controller = new LinkedHashMap<>();
+        controller.put("forecast", Map.of("days", List.of(1, 2, 3)));
+        controller.put("customName", "Backyard");
+        controller.put("customStationNames", stations);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("StickId", "AABBCC");
+        result.put("Controller", controller);
+
+        StubRainbirdClient client = new StubRainbirdClient(configuration,
+                List.of(ExpectedCall.of("requestWeatherAndStatus", result)));
+        RainbirdClient.WeatherStatus status = client.getWeatherAndStatus("AABBCC", "DE", "10115");
+
+        assertEquals("AABBCC", status.getStickId());
+        assertEquals("Backyard", status.getControllerName());
+        assertEquals(Map.of(Integer.valueOf(1), "Lawn"), status.getCustomStationNames());
+    }
+
     @Test
     void manualCommandsSendSipPayloads() throws IOException, InterruptedException {
         RainbirdConfiguration configuration = new RainbirdConfiguration();
@@ -138,7 +237,7 @@ class RainbirdClientTest {
         server.start();
         try {
             configuration.port = server.getAddress().getPort();
-            RainbirdClient client = new RainbirdClient(configuration);
+            RainbirdClient client = new RainbirdClient(httpClient, executor, configuration);
             PollingResult result = client.poll();
             assertTrue(connectionHeaders.stream().allMatch(value -> "keep-alive".equalsIgnoreCase(value)));
             assertEquals(0, responses.size());
@@ -148,6 +247,556 @@ class RainbirdClientTest {
         }
     }
 
+    @Test
+    void pollReusesPooledConnection() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.basePath = "/stick";
+        configuration.password = null;
+        Deque<Map<String, Object>> responses = new ArrayDeque<>();
+        responses.add(Map.of("networkUp", Boolean.TRUE, "internetUp", Boolean.TRUE));
+        responses.add(Map.of("rssi", Integer.valueOf(-42)));
+        responses.add(Map.of("numPrograms", Integer.valueOf(0)));
+        responses.add(Map.of("data", "8300"));
+        responses.add(Map.of("data", "CC0A1E200977E80000000200FA001405"));
+        responses.add(Map.of("data", "A0000000000400"));
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(configuration.host, 0), 0);
+        Set<InetSocketAddress> peers = ConcurrentHashMap.newKeySet();
+        server.createContext(configuration.basePath, exchange -> {
+            peers.add(exchange.getRemoteAddress());
+            handleRequest(exchange, responses, new ArrayList<>());
+        });
+        server.start();
+        RainbirdClient client = null;
+        try {
+            configuration.port = server.getAddress().getPort();
+            client = new RainbirdClient(httpClient, executor, configuration);
+            client.poll();
+            assertEquals(0, responses.size());
+            assertEquals(1, peers.size());
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void recoversWhenStickDropsIdleConnection() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.password = null;
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getByName(configuration.host))) {
+            Thread stick = new Thread(() -> {
+                for (int i = 0; i < 2; i++) {
+                    // Answer one request per socket, then drop it without a Connection: close header.
+                    try (Socket socket = server.accept()) {
+                        long id = readRawRequestId(socket.getInputStream());
+                        String json = "{\"id\":" + id + ",\"jsonrpc\":\"2.0\",\"result\":{\"code\":\"1234" + i
+                                + "\",\"country\":\"DE\"}}";
+                        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+                        OutputStream output = socket.getOutputStream();
+                        output.write(("HTTP/1.1 200 OK\r\nContent-Length: " + body.length + "\r\n\r\n")
+                                .getBytes(StandardCharsets.US_ASCII));
+                        output.write(body);
+                        output.flush();
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            });
+            stick.setDaemon(true);
+            stick.start();
+
+            configuration.port = server.getLocalPort();
+            RainbirdClient client = new RainbirdClient(httpClient, executor, configuration);
+            try {
+                assertEquals("12340", client.getZipCode().getCode());
+                assertEquals("12341", client.getZipCode().getCode());
+            } finally {
+                client.close();
+            }
+            stick.join(5000);
+        }
+    }
+
+    @Test
+    void pollAsyncCompletesWithoutBlockingCaller() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.basePath = "/stick";
+        configuration.password = null;
+        Deque<Map<String, Object>> responses = new ArrayDeque<>();
+        responses.add(Map.of("networkUp", Boolean.TRUE, "internetUp", Boolean.FALSE));
+        responses.add(Map.of("rssi", Integer.valueOf(-42)));
+        responses.add(Map.of("numPrograms", Integer.valueOf(0)));
+        responses.add(Map.of("data", "8300"));
+        responses.add(Map.of("data", "CC0A1E200977E80000000200FA001405"));
+        responses.add(Map.of("data", "A0000000000400"));
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(configuration.host, 0), 0);
+        server.createContext(configuration.basePath, exchange -> handleRequest(exchange, responses, new ArrayList<>()));
+        server.start();
+        RainbirdClient client = null;
+        try {
+            configuration.port = server.getAddress().getPort();
+            client = new RainbirdClient(httpClient, executor, configuration);
+            CompletableFuture<PollingResult> future = client.pollAsync();
+            PollingResult result = future.get(5, TimeUnit.SECONDS);
+            assertEquals(0, responses.size());
+            assertTrue(result.getControllerStatus().getNetworkStatus().isNetworkUp());
+            assertFalse(result.getControllerStatus().getNetworkStatus().isInternetUp());
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void asyncRequestFailsWhenStickStalls() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.password = null;
+        configuration.timeoutMillis = 1000;
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getByName(configuration.host))) {
+            configuration.port = server.getLocalPort();
+            RainbirdClient client = new RainbirdClient(httpClient, executor, configuration);
+            try {
+                IOException error = assertThrows(IOException.class,
+                        () -> RainbirdFutures.await(client.getZipCodeAsync()));
+                assertTrue(error instanceof SocketTimeoutException);
+                assertTrue(client.dumpTraffic().contains("getZipCode: "), client.dumpTraffic());
+                assertTrue(client.dumpTraffic().contains("failed after"), client.dumpTraffic());
+                assertEquals(1, client.getSentRequestCount());
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    @Test
+    void scheduleSummariesUseBatchRequestsWhenSupported() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.basePath = "/stick";
+        configuration.password = null;
+        List<Integer> batchSizes = new ArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(configuration.host, 0), 0);
+        server.createContext(configuration.basePath, exchange -> handleBatchRequest(exchange, true, batchSizes));
+        server.start();
+        RainbirdClient client = null;
+        try {
+            configuration.port = server.getAddress().getPort();
+            client = new RainbirdClient(httpClient, executor, configuration);
+            PollingResult result = client.poll();
+            assertEquals(2, result.getProgramStatus().getProgramCount());
+            // The controller info page is fetched on its own as change signal; the batch carries two program
+            // headers, two program pages and two zone pages.
+            assertEquals(List.of(Integer.valueOf(6)), batchSizes);
+            assertEquals(RainbirdClient.BatchSupport.SUPPORTED, client.getBatchSupport());
+            String traffic = client.dumpTraffic();
+            assertTrue(traffic.contains("\"method\":\"getNetworkStatus\""), traffic);
+            assertTrue(traffic.contains("tunnelSip 20 x6"), traffic);
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void scheduleSummariesFallBackWhenBatchRejected() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.basePath = "/stick";
+        configuration.password = null;
+        List<Integer> batchSizes = new ArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(configuration.host, 0), 0);
+        server.createContext(configuration.basePath, exchange -> handleBatchRequest(exchange, false, batchSizes));
+        server.start();
+        RainbirdClient client = null;
+        try {
+            configuration.port = server.getAddress().getPort();
+            client = new RainbirdClient(httpClient, executor, configuration);
+            client.poll();
+            assertEquals(RainbirdClient.BatchSupport.UNSUPPORTED, client.getBatchSupport());
+            PollingResult result = client.poll();
+            assertEquals(2, result.getProgramStatus().getSummaries().size());
+            // Only the first poll probes; the second one reuses the cached schedule.
+            assertEquals(List.of(Integer.valueOf(6)), batchSizes);
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void restoredScheduleKeepsItsAge() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.basePath = "/stick";
+        configuration.password = null;
+        List<Integer> batchSizes = new ArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(configuration.host, 0), 0);
+        server.createContext(configuration.basePath, exchange -> handleBatchRequest(exchange, true, batchSizes));
+        server.start();
+        List<RainbirdClient> clients = new ArrayList<>();
+        try {
+            configuration.port = server.getAddress().getPort();
+            RainbirdClient first = new RainbirdClient(httpClient, executor, configuration);
+            clients.add(first);
+            first.poll();
+            ScheduleSnapshot snapshot = first.getScheduleSnapshot();
+            assertNotNull(snapshot);
+            assertEquals(List.of(Integer.valueOf(6)), batchSizes);
+
+            RainbirdClient fresh = new RainbirdClient(httpClient, executor, configuration);
+            clients.add(fresh);
+            fresh.restoreScheduleSnapshot(snapshot);
+            fresh.poll();
+            assertEquals(List.of(Integer.valueOf(6)), batchSizes);
+
+            // A snapshot fetched before the cache lifetime must not look fresh just because it was restored now.
+            RainbirdClient stale = new RainbirdClient(httpClient, executor, configuration);
+            clients.add(stale);
+            stale.restoreScheduleSnapshot(new ScheduleSnapshot(snapshot.getIdentity(), snapshot.getFingerprint(),
+                    snapshot.getSummaries(), snapshot.getFetchedAt().minus(Duration.ofHours(13))));
+            stale.poll();
+            assertEquals(List.of(Integer.valueOf(6), Integer.valueOf(6)), batchSizes);
+        } finally {
+            clients.forEach(RainbirdClient::close);
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void batchProbeTimeoutKeepsBatchSupportUnknown() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.basePath = "/stick";
+        configuration.password = null;
+        configuration.timeoutMillis = 1000;
+        List<Integer> batchSizes = new ArrayList<>();
+        AtomicBoolean stalled = new AtomicBoolean();
+        HttpServer server = HttpServer.create(new InetSocketAddress(configuration.host, 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext(configuration.basePath, exchange -> {
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (request.startsWith("[") && stalled.compareAndSet(false, true)) {
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.close();
+                return;
+            }
+            respondToBatchRequest(exchange, request, true, batchSizes);
+        });
+        server.start();
+        RainbirdClient client = null;
+        try {
+            configuration.port = server.getAddress().getPort();
+            client = new RainbirdClient(httpClient, executor, configuration);
+            PollingResult result = client.poll();
+            // The stalled probe falls back to single requests but does not rule batches out.
+            assertEquals(2, result.getProgramStatus().getSummaries().size());
+            assertEquals(RainbirdClient.BatchSupport.UNKNOWN, client.getBatchSupport());
+            assertTrue(batchSizes.isEmpty(), batchSizes.toString());
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void concurrentPollsShareOneRequestSequence() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.basePath = "/stick";
+        configuration.password = null;
+        Deque<Map<String, Object>> responses = new ArrayDeque<>();
+        responses.add(Map.of("networkUp", Boolean.TRUE, "internetUp", Boolean.TRUE));
+        responses.add(Map.of("rssi", Integer.valueOf(-42)));
+        responses.add(Map.of("numPrograms", Integer.valueOf(0)));
+        responses.add(Map.of("data", "8300"));
+        responses.add(Map.of("data", "CC0A1E200977E80000000200FA001405"));
+        responses.add(Map.of("data", "A0000000000400"));
+
+        CountDownLatch secondPollStarted = new CountDownLatch(1);
+        List<String> connectionHeaders = new ArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(configuration.host, 0), 0);
+        server.createContext(configuration.basePath, exchange -> {
+            try {
+                secondPollStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handleRequest(exchange, responses, connectionHeaders);
+        });
+        server.start();
+        RainbirdClient client = null;
+        try {
+            configuration.port = server.getAddress().getPort();
+            client = new RainbirdClient(httpClient, executor, configuration);
+            CompletableFuture<PollingResult> first = client.pollAsync();
+            CompletableFuture<PollingResult> second = client.pollAsync();
+            secondPollStarted.countDown();
+            PollingResult firstResult = first.get(5, TimeUnit.SECONDS);
+            PollingResult secondResult = second.get(5, TimeUnit.SECONDS);
+            assertSame(firstResult, secondResult);
+            assertEquals(6, connectionHeaders.size());
+            assertEquals(0, responses.size());
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void unreachableStickOpensCircuit() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.password = null;
+        try (ServerSocket unused = new ServerSocket(0, 1, InetAddress.getByName(configuration.host))) {
+            configuration.port = unused.getLocalPort();
+        }
+        RainbirdClient client = new RainbirdClient(httpClient, executor, configuration);
+        try {
+            assertThrows(IOException.class, client::poll);
+            assertThrows(IOException.class, client::poll);
+            IOException error = assertThrows(IOException.class, client::poll);
+            assertTrue(error instanceof RainbirdCircuitOpenException);
+            assertTrue(((RainbirdCircuitOpenException) error).getRetryDelayMillis() > 0);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    void clientWithoutProbeMethodRecoversAfterBackoff() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.basePath = "/phone-api";
+        configuration.password = null;
+        configuration.probeMethod = "";
+        AtomicBoolean reachable = new AtomicBoolean(false);
+        HttpServer server = HttpServer.create(new InetSocketAddress(configuration.host, 0), 0);
+        server.createContext(configuration.basePath, exchange -> {
+            if (!reachable.get()) {
+                // Drop the connection without a response, as a stick that hangs mid-request would.
+                exchange.close();
+                return;
+            }
+            Deque<Map<String, Object>> responses = new ArrayDeque<>();
+            responses.add(Map.of("code", "10115", "country", "DE"));
+            handleRequest(exchange, responses, new ArrayList<>());
+        });
+        server.start();
+        AtomicLong clock = new AtomicLong();
+        RainbirdCircuitBreaker breaker = new RainbirdCircuitBreaker(2, 1000, 1000, clock::get, new Random(1));
+        RainbirdClient client = null;
+        try {
+            configuration.port = server.getAddress().getPort();
+            client = new RainbirdClient(httpClient, executor, configuration, breaker);
+            RainbirdClient failing = client;
+            assertThrows(IOException.class, failing::getZipCode);
+            assertThrows(IOException.class, failing::getZipCode);
+            assertTrue(assertThrows(IOException.class, failing::getZipCode) instanceof RainbirdCircuitOpenException);
+
+            reachable.set(true);
+            clock.addAndGet(1000);
+            // getZipCode is not getNetworkStatus, yet it serves as probe and closes the breaker.
+            assertEquals("10115", client.getZipCode().getCode());
+            assertEquals(RainbirdCircuitBreaker.State.CLOSED, breaker.getState());
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void httpErrorStatusDoesNotOpenCircuit() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.basePath = "/phone-api";
+        configuration.password = null;
+        HttpServer server = HttpServer.create(new InetSocketAddress(configuration.host, 0), 0);
+        server.createContext(configuration.basePath, exchange -> {
+            exchange.sendResponseHeaders(403, -1);
+            exchange.close();
+        });
+        server.start();
+        AtomicLong clock = new AtomicLong();
+        RainbirdCircuitBreaker breaker = new RainbirdCircuitBreaker(2, 1000, 1000, clock::get, new Random(1));
+        RainbirdClient client = null;
+        try {
+            configuration.port = server.getAddress().getPort();
+            client = new RainbirdClient(httpClient, executor, configuration, breaker);
+            RainbirdClient rejected = client;
+            for (int i = 0; i < 3; i++) {
+                IOException error = assertThrows(IOException.class, rejected::getZipCode);
+                assertEquals(403, ((RainbirdHttpStatusException) error).getStatus());
+            }
+            assertEquals(RainbirdCircuitBreaker.State.CLOSED, breaker.getState());
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void fixedTimeoutIgnoresFastSamples() throws Exception {
+        RainbirdConfiguration configuration = new RainbirdConfiguration();
+        configuration.host = "127.0.0.1";
+        configuration.basePath = "/phone-api";
+        configuration.password = null;
+        configuration.timeoutMillis = 3000;
+        configuration.adaptiveTimeout = false;
+        AtomicLong requests = new AtomicLong();
+        HttpServer server = HttpServer.create(new InetSocketAddress(configuration.host, 0), 0);
+        server.createContext(configuration.basePath, exchange -> {
+            if (requests.incrementAndGet() > 4) {
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Deque<Map<String, Object>> responses = new ArrayDeque<>();
+            responses.add(Map.of("code", "10115", "country", "DE"));
+            handleRequest(exchange, responses, new ArrayList<>());
+        });
+        server.start();
+        RainbirdClient client = null;
+        try {
+            configuration.port = server.getAddress().getPort();
+            client = new RainbirdClient(httpClient, executor, configuration);
+            for (int i = 0; i < 4; i++) {
+                client.getZipCode();
+            }
+            // An adaptive timeout would have shrunk towards the fast samples and given up on the slow answer.
+            assertEquals("10115", client.getZipCode().getCode());
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+            server.stop(0);
+        }
+    }
+
+    private static long readRawRequestId(InputStream input) throws IOException {
+        int contentLength = 0;
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = input.read()) != -1) {
+            if (c != '\n') {
+                line.append((char) c);
+                continue;
+            }
+            String header = line.toString().trim();
+            line.setLength(0);
+            if (header.isEmpty()) {
+                break;
+            }
+            if (header.toLowerCase().startsWith("content-length:")) {
+                contentLength = Integer.parseInt(header.substring(15).trim());
+            }
+        }
+        byte[] body = input.readNBytes(contentLength);
+        Map<String, Object> payload = RainbirdJson.parseObject(new String(body, StandardCharsets.UTF_8));
+        return ((Number) payload.get("id")).longValue();
+    }
+
+    private void handleBatchRequest(HttpExchange exchange, boolean batchSupported, List<Integer> batchSizes)
+            throws IOException {
+        String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        respondToBatchRequest(exchange, request, batchSupported, batchSizes);
+    }
+
+    private void respondToBatchRequest(HttpExchange exchange, String request, boolean batchSupported,
+            List<Integer> batchSizes) throws IOException {
+        Object parsed = RainbirdJson.parse(request);
+        String json;
+        if (parsed instanceof List) {
+            List<?> calls = (List<?>) parsed;
+            batchSizes.add(Integer.valueOf(calls.size()));
+            if (batchSupported) {
+                List<Object> envelopes = new ArrayList<>();
+                for (Object call : calls) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> payload = (Map<String, Object>) call;
+                    envelopes.add(stickEnvelope(payload));
+                }
+                json = RainbirdJson.stringifyArray(envelopes);
+            } else {
+                Map<String, Object> error = new LinkedHashMap<>();
+                error.put("jsonrpc", "2.0");
+                error.put("id", null);
+                error.put("error", Map.of("code", Integer.valueOf(-32600), "message", "Invalid Request"));
+                json = RainbirdJson.stringify(error);
+            }
+        } else {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> payload = (Map<String, Object>) parsed;
+            json = RainbirdJson.stringify(stickEnvelope(payload));
+        }
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, data.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(data);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Map<String, Object> stickEnvelope(Map<String, Object> payload) {
+        Map<String, Object> result;
+        switch (String.valueOf(payload.get("method"))) {
+            case "getNetworkStatus":
+                result = Map.of("networkUp", Boolean.TRUE, "internetUp", Boolean.TRUE);
+                break;
+            case "getWifiParams":
+                result = Map.of("rssi", Integer.valueOf(-42));
+                break;
+            case "getSettings":
+                result = Map.of("numPrograms", Integer.valueOf(2));
+                break;
+            default:
+                @SuppressWarnings("unchecked")
+                Map<String, Object> params = (Map<String, Object>) payload.get("params");
+                String data = String.valueOf(params.get("data"));
+                if (data.startsWith("03")) {
+                    result = Map.of("data", "83000F000000");
+                } else if (data.startsWith("4C")) {
+                    result = Map.of("data", "CC0A1E200977E80000000200FA001405");
+                } else {
+                    result = Map.of("data", "A0000000000400");
+                }
+                break;
+        }
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("jsonrpc", "2.0");
+        envelope.put("id", payload.get("id"));
+        envelope.put("result", result);
+        return envelope;
+    }
+
     private void handleRequest(HttpExchange exchange, Deque<Map<String, Object>> responses, List<String> connectionHeaders)
             throws IOException {
         connectionHeaders.add(exchange.getRequestHeaders().getFirst("Connection"));
@@ -178,28 +827,78 @@ class RainbirdClientTest {
         }
     }
 
+    private static List<ExpectedCall> fullPollCalls() {
+        List<ExpectedCall> calls = new ArrayList<>();
+        calls.add(ExpectedCall.of("getNetworkStatus", Map.of("networkUp", true, "internetUp", true)));
+        calls.add(ExpectedCall.of("getWifiParams", Map.of("rssi", -59)));
+        calls.add(ExpectedCall.of("getSettings", Map.of("numPrograms", 3)));
+        calls.add(ExpectedCall.of("tunnelSip", Map.of("data", "83003F000000")));
+        calls.add(ExpectedCall.of("tunnelSip", Map.of("data", "CC0A1E200977E80000000200FA001405")));
+
+        List<String> scheduleResponses = List.of(
+                "A0000000000400",
+                "A000106A0601006401",
+                "A000117F0300002D00",
+                "A00012000300006400",
+                "A0006000F0FFFFFFFFFFFF",
+                "A000610168FFFFFFFFFFFF",
+                "A00062FFFFFFFFFFFFFFFF",
+                "A00080001900010000001400020000",
+                "A00081000700030000001400040000",
+                "A00082000A00060000000000000000");
+        for (String response : scheduleResponses) {
+            calls.add(ExpectedCall.of("tunnelSip", Map.of("data", response)));
+        }
+        return calls;
+    }
+
     private static final class StubRainbirdClient extends RainbirdClient {
 
         private final List<ExpectedCall> responses;
         private final List<Map<String, Object>> recordedParams = new ArrayList<>();
 
         StubRainbirdClient(RainbirdConfiguration configuration, List<ExpectedCall> responses) {
-            super(configuration);
+            // Calls never reach the transport, so the client is not started.
+            super(new HttpClient(), Runnable::run, configuration);
             this.responses = new ArrayList<>(responses);
         }
 
         @Override
-        protected Map<String, Object> invoke(String method, Map<String, Object> params)
-                throws IOException, InterruptedException {
+        protected <T> CompletableFuture<T> invokeAsync(String method, Map<String, Object> params,
+                RainbirdResultBinder<T> binder) {
             if (responses.isEmpty()) {
-                throw new IOException("Unexpected method call: " + method);
+                return CompletableFuture.failedFuture(new IOException("Unexpected method call: " + method));
             }
             ExpectedCall call = responses.remove(0);
             if (!call.method.equals(method)) {
-                throw new IOException("Unexpected method " + method + ", expected " + call.method);
+                return CompletableFuture
+                        .failedFuture(new IOException("Unexpected method " + method + ", expected " + call.method));
             }
             recordedParams.add(new LinkedHashMap<>(params));
-            return call.result;
+            try {
+                byte[] json = RainbirdJson.stringify(call.result).getBytes(StandardCharsets.UTF_8);
+                return CompletableFuture.completedFuture(binder.bind(new RainbirdJsonReader(json, 0, json.length)));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        @Override
+        protected <T> CompletableFuture<List<T>> invokeBatchAsync(String method, List<Map<String, Object>> paramsList,
+                RainbirdResultBinder<T> binder) {
+            List<T> results = new ArrayList<>();
+            for (Map<String, Object> params : paramsList) {
+                CompletableFuture<T> result = invokeAsync(method, params, binder);
+                if (result.isCompletedExceptionally()) {
+                    return result.thenApply(List::of);
+                }
+                results.add(result.join());
+            }
+            return CompletableFuture.completedFuture(results);
+        }
+
+        void expect(ExpectedCall call) {
+            responses.add(call);
         }
 
         List<Map<String, Object>> getRecordedParams() {
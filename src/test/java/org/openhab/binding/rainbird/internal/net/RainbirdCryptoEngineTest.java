@@ -0,0 +1,68 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the cached crypto engine against freshly created JCE instances.
+ */
+class RainbirdCryptoEngineTest {
+
+    private static final byte[] KEY = RainbirdCryptoEngine.sha256("secret".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void encryptMatchesReferenceCipherAcrossCalls() throws Exception {
+        RainbirdCryptoEngine engine = new RainbirdCryptoEngine(KEY);
+        byte[] iv = new byte[16];
+        Arrays.fill(iv, (byte) 7);
+        for (int round = 0; round < 3; round++) {
+            byte[] plain = new byte[32];
+            Arrays.fill(plain, (byte) ('a' + round));
+            Cipher reference = Cipher.getInstance("AES/CBC/NoPadding");
+            reference.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY, "AES"), new IvParameterSpec(iv));
+            byte[] expected = reference.doFinal(plain);
+
+            byte[] output = new byte[40];
+            assertEquals(32, engine.encrypt(iv, 0, plain, 0, plain.length, output, 8));
+            assertArrayEquals(expected, Arrays.copyOfRange(output, 8, 40));
+        }
+    }
+
+    @Test
+    void decryptsInPlace() throws Exception {
+        RainbirdCryptoEngine engine = new RainbirdCryptoEngine(KEY);
+        byte[] buffer = new byte[64];
+        byte[] plain = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+        Arrays.fill(buffer, 0, 16, (byte) 3);
+        engine.encrypt(buffer, 0, plain, 0, plain.length, buffer, 16);
+        engine.decrypt(buffer, 0, buffer, 16, 32, buffer, 16);
+        assertArrayEquals(plain, Arrays.copyOfRange(buffer, 16, 48));
+    }
+
+    @Test
+    void hashesIntoCallerBuffer() throws Exception {
+        byte[] data = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        byte[] output = new byte[40];
+        RainbirdCryptoEngine.sha256(data, 0, data.length, output, 4);
+        byte[] expected = MessageDigest.getInstance("SHA-256").digest(data);
+        assertArrayEquals(expected, Arrays.copyOfRange(output, 4, 36));
+    }
+
+    @Test
+    void rejectsPartialBlocks() {
+        RainbirdCryptoEngine engine = new RainbirdCryptoEngine(KEY);
+        assertThrows(IOException.class, () -> engine.encrypt(new byte[16], 0, new byte[10], 0, 10, new byte[16], 0));
+    }
+}
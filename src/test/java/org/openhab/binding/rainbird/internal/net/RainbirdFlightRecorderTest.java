@@ -0,0 +1,53 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the bounded traffic recorder.
+ */
+class RainbirdFlightRecorderTest {
+
+    @Test
+    void keepsNewestExchangesInOrder() {
+        RainbirdFlightRecorder recorder = new RainbirdFlightRecorder(3);
+        for (int i = 0; i < 5; i++) {
+            recorder.record("call" + i, new byte[] { (byte) i }, ByteBuffer.wrap(new byte[] { 1, 2 }), 1000, null);
+        }
+        List<RainbirdFlightRecorder.Exchange> exchanges = recorder.snapshot();
+        assertEquals(3, exchanges.size());
+        assertEquals("call2", exchanges.get(0).getMethod());
+        assertEquals("call4", exchanges.get(2).getMethod());
+        assertArrayEquals(new byte[] { 4 }, exchanges.get(2).getRequest());
+    }
+
+    @Test
+    void copiesResponseWithoutMovingBuffer() {
+        RainbirdFlightRecorder recorder = new RainbirdFlightRecorder();
+        ByteBuffer response = ByteBuffer.wrap(new byte[] { 9, 8, 7, 6 });
+        response.position(1);
+        recorder.record("call", new byte[0], response, 0, null);
+        assertEquals(1, response.position());
+        assertArrayEquals(new byte[] { 8, 7, 6 }, recorder.snapshot().get(0).getResponse());
+    }
+
+    @Test
+    void truncatesLargeBodiesAndKeepsFailures() {
+        RainbirdFlightRecorder recorder = new RainbirdFlightRecorder();
+        IOException failure = new IOException("boom");
+        recorder.record("call", new byte[RainbirdFlightRecorder.MAX_CAPTURE_BYTES + 10], null, 0, failure);
+        RainbirdFlightRecorder.Exchange exchange = recorder.snapshot().get(0);
+        assertEquals(RainbirdFlightRecorder.MAX_CAPTURE_BYTES, exchange.getRequest().length);
+        assertEquals(RainbirdFlightRecorder.MAX_CAPTURE_BYTES + 10, exchange.getRequestLength());
+        assertNull(exchange.getResponse());
+        assertSame(failure, exchange.getFailure());
+    }
+}
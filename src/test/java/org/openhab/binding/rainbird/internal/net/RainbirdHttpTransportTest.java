@@ -0,0 +1,186 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the request deadline, the replay of idempotent requests and the response size limit against a raw socket
+ * stick.
+ */
+class RainbirdHttpTransportTest {
+
+    private static final byte[] BODY = { '{', '}' };
+
+    private final HttpClient httpClient = new HttpClient();
+
+    @BeforeEach
+    void startClient() throws Exception {
+        httpClient.start();
+    }
+
+    @AfterEach
+    void stopClient() throws Exception {
+        httpClient.stop();
+    }
+
+    @Test
+    void onlyIdempotentRequestsAreReplayedAfterPeerClose() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 4, InetAddress.getLoopbackAddress())) {
+            Thread stick = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 2; i++) {
+                        // Answer one request, then take the next one and close without a response.
+                        try (Socket socket = server.accept()) {
+                            readRequest(socket.getInputStream());
+                            respond(socket.getOutputStream(), "warm-up");
+                            readRequest(socket.getInputStream());
+                        }
+                    }
+                    try (Socket socket = server.accept()) {
+                        readRequest(socket.getInputStream());
+                        respond(socket.getOutputStream(), "replayed");
+                    }
+                } catch (IOException e) {
+                    return;
+                }
+            });
+            stick.setDaemon(true);
+            stick.start();
+
+            URI endpoint = URI.create("http://127.0.0.1:" + server.getLocalPort() + "/stick");
+            try (RainbirdHttpTransport transport = new RainbirdHttpTransport(httpClient, endpoint, Map.of())) {
+                RainbirdBufferPool.release(transport.postAsync(BODY, 2000, true).get(5, TimeUnit.SECONDS));
+                // A command may already have run on the stick; it fails instead of being sent twice.
+                ExecutionException error = assertThrows(ExecutionException.class,
+                        () -> transport.postAsync(BODY, 2000, false).get(5, TimeUnit.SECONDS));
+                assertTrue(error.getCause() instanceof IOException, String.valueOf(error.getCause()));
+                assertFalse(error.getCause() instanceof SocketTimeoutException, String.valueOf(error.getCause()));
+
+                RainbirdBufferPool.release(transport.postAsync(BODY, 2000, true).get(5, TimeUnit.SECONDS));
+                ByteBuffer replayed = transport.postAsync(BODY, 2000, true).get(5, TimeUnit.SECONDS);
+                assertEquals("replayed", StandardCharsets.UTF_8.decode(replayed).toString());
+                RainbirdBufferPool.release(replayed);
+            }
+            stick.join(5000);
+        }
+    }
+
+    @Test
+    void stalledStickFailsWithinTheTimeout() throws Exception {
+        // Connections land in the backlog and are never answered.
+        try (ServerSocket server = new ServerSocket(0, 4, InetAddress.getLoopbackAddress())) {
+            URI endpoint = URI.create("http://127.0.0.1:" + server.getLocalPort() + "/stick");
+            try (RainbirdHttpTransport transport = new RainbirdHttpTransport(httpClient, endpoint, Map.of())) {
+                long started = System.nanoTime();
+                CompletableFuture<ByteBuffer> request = transport.postAsync(BODY, 600, true);
+
+                ExecutionException error = assertThrows(ExecutionException.class,
+                        () -> request.get(5, TimeUnit.SECONDS));
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                assertTrue(error.getCause() instanceof SocketTimeoutException, String.valueOf(error.getCause()));
+                assertTrue(elapsedMillis < 1000, elapsedMillis + " ms");
+            }
+        }
+    }
+
+    @Test
+    void oversizedResponseIsRejected() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Thread stick = new Thread(() -> {
+                try (Socket socket = server.accept()) {
+                    readRequest(socket.getInputStream());
+                    byte[] chunk = new byte[64 * 1024];
+                    int length = 2 * 1024 * 1024;
+                    OutputStream output = socket.getOutputStream();
+                    output.write(("HTTP/1.1 200 OK\r\nContent-Length: " + length + "\r\n\r\n")
+                            .getBytes(StandardCharsets.US_ASCII));
+                    for (int written = 0; written < length; written += chunk.length) {
+                        output.write(chunk);
+                    }
+                    output.flush();
+                } catch (IOException e) {
+                    // The client gives up once the limit is exceeded.
+                }
+            });
+            stick.setDaemon(true);
+            stick.start();
+
+            URI endpoint = URI.create("http://127.0.0.1:" + server.getLocalPort() + "/stick");
+            try (RainbirdHttpTransport transport = new RainbirdHttpTransport(httpClient, endpoint, Map.of())) {
+                ExecutionException error = assertThrows(ExecutionException.class,
+                        () -> transport.postAsync(BODY, 5000, true).get(10, TimeUnit.SECONDS));
+                assertTrue(String.valueOf(error.getCause().getMessage()).contains("too large"),
+                        String.valueOf(error.getCause()));
+            }
+            stick.join(5000);
+        }
+    }
+
+    @Test
+    void hostLookupCountsAgainstTheTimeout() throws Exception {
+        URI endpoint = URI.create("http://rdz-rbcloud.invalid/phone-api");
+        try (RainbirdHttpTransport transport = new RainbirdHttpTransport(httpClient, endpoint, Map.of())) {
+            long started = System.nanoTime();
+            CompletableFuture<ByteBuffer> request = transport.postAsync(BODY, 1000, true);
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> request.get(5, TimeUnit.SECONDS));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            // Depending on the resolver the lookup fails outright or runs into the deadline, never past it.
+            assertTrue(error.getCause() instanceof UnknownHostException
+                    || error.getCause() instanceof SocketTimeoutException, String.valueOf(error.getCause()));
+            assertTrue(elapsedMillis < 1400, elapsedMillis + " ms");
+        }
+    }
+
+    private static void readRequest(InputStream input) throws IOException {
+        int contentLength = 0;
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = input.read()) != -1) {
+            if (c != '\n') {
+                line.append((char) c);
+                continue;
+            }
+            String header = line.toString().trim();
+            line.setLength(0);
+            if (header.isEmpty()) {
+                break;
+            }
+            if (header.toLowerCase().startsWith("content-length:")) {
+                contentLength = Integer.parseInt(header.substring(15).trim());
+            }
+        }
+        input.readNBytes(contentLength);
+    }
+
+    private static void respond(OutputStream output, String text) throws IOException {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        output.write(("HTTP/1.1 200 OK\r\nContent-Length: " + body.length + "\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+        output.write(body);
+        output.flush();
+    }
+}
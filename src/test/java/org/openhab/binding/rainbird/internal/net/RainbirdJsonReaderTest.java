@@ -0,0 +1,87 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rainbird.internal.net.RainbirdJsonReader.Token;
+
+/**
+ * Tests the pull parser and the tree parser built on top of it.
+ */
+class RainbirdJsonReaderTest {
+
+    @Test
+    void pullsTunnelDataAndSkipsTheRest() throws IOException {
+        RainbirdJsonReader reader = reader(
+                "{\"id\": 12, \"jsonrpc\":\"2.0\", \"extra\": {\"a\": [1, {\"b\": null}, true]},"
+                        + " \"result\": {\"length\": 3, \"data\": \"A00010\"}}");
+        reader.beginObject();
+        String idKey = reader.nextName();
+        assertSame("id", idKey);
+        assertEquals(12, reader.nextInt());
+        assertSame("jsonrpc", reader.nextName());
+        assertEquals("2.0", reader.nextString());
+        assertEquals("extra", reader.nextName());
+        reader.skipValue();
+        assertSame("result", reader.nextName());
+        reader.beginObject();
+        assertSame("length", reader.nextName());
+        assertEquals(3L, reader.nextLong());
+        assertSame("data", reader.nextName());
+        assertEquals("A00010", reader.nextString());
+        assertFalse(reader.hasNext());
+        reader.endObject();
+        reader.endObject();
+        assertEquals(Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void decodesEscapesAndMultiByteCharacters() throws IOException {
+        Map<String, Object> value = RainbirdJson.parseObject(
+                "{\"name\":\"Gartenhäuschen\",\"escaped\":\"a\\\"b\\\\c\\u00fc\\n\",\"list\":[-5,2.5,3000000000]}");
+        assertEquals("Gartenhäuschen", value.get("name"));
+        assertEquals("a\"b\\cü\n", value.get("escaped"));
+        assertEquals(List.of(Integer.valueOf(-5), Double.valueOf(2.5), Long.valueOf(3000000000L)),
+                value.get("list"));
+    }
+
+    @Test
+    void parsesBatchArrays() throws IOException {
+        Object value = RainbirdJson.parse("[{\"id\":1},{\"id\":2}]");
+        assertEquals(List.of(Map.of("id", Integer.valueOf(1)), Map.of("id", Integer.valueOf(2))), value);
+    }
+
+    @Test
+    void peekIntegralLeavesTheNumberUnread() throws IOException {
+        RainbirdJsonReader reader = reader("[-61, 2.5, \"3\"]");
+        reader.beginArray();
+        assertTrue(reader.peekIntegral());
+        assertEquals(-61, reader.nextInt());
+        assertFalse(reader.peekIntegral());
+        assertEquals(2.5, reader.nextNumber().doubleValue());
+        assertFalse(reader.peekIntegral());
+        assertEquals("3", reader.nextString());
+        reader.endArray();
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        assertThrows(IOException.class, () -> RainbirdJson.parse("{\"id\" 1}"));
+        assertThrows(IOException.class, () -> RainbirdJson.parse("[1,]"));
+        assertThrows(IOException.class, () -> RainbirdJson.parse("{\"id\":\"open"));
+    }
+
+    private static RainbirdJsonReader reader(String json) {
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        return new RainbirdJsonReader(data, 0, data.length);
+    }
+}
@@ -0,0 +1,44 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the RTT-based timeout derivation.
+ */
+class RainbirdRttEstimatorTest {
+
+    @Test
+    void usesCeilingUntilFirstSample() {
+        RainbirdRttEstimator estimator = new RainbirdRttEstimator(5000);
+        assertEquals(5000, estimator.timeoutMillis("getNetworkStatus"));
+    }
+
+    @Test
+    void timeoutFollowsSmoothedRoundTripTime() {
+        RainbirdRttEstimator estimator = new RainbirdRttEstimator(5000);
+        for (int i = 0; i < 20; i++) {
+            estimator.recordSample("tunnelSip 4C", 80);
+        }
+        long timeout = estimator.timeoutMillis("tunnelSip 4C");
+        assertTrue(timeout >= RainbirdRttEstimator.MIN_TIMEOUT_MILLIS && timeout < 1000, "timeout " + timeout);
+        // Other request kinds keep their own estimate.
+        assertEquals(5000, estimator.timeoutMillis("tunnelSip 20"));
+    }
+
+    @Test
+    void timeoutBacksOffAndStaysBelowCeiling() {
+        RainbirdRttEstimator estimator = new RainbirdRttEstimator(2000);
+        estimator.recordSample("getWifiParams", 200);
+        long initial = estimator.timeoutMillis("getWifiParams");
+        assertEquals(600, initial);
+        estimator.recordTimeout("getWifiParams");
+        assertEquals(1200, estimator.timeoutMillis("getWifiParams"));
+        estimator.recordTimeout("getWifiParams");
+        assertEquals(2000, estimator.timeoutMillis("getWifiParams"));
+        estimator.recordSample("getWifiParams", 200);
+        assertTrue(estimator.timeoutMillis("getWifiParams") < 1200);
+    }
+}
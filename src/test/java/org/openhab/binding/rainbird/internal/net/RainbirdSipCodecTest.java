@@ -0,0 +1,32 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests SIP frame encoding through the hex lookup table.
+ */
+class RainbirdSipCodecTest {
+
+    @Test
+    void encodesOpcodeWithoutFields() {
+        assertEquals("4C", RainbirdSipCodec.encode(0x4C, new int[0], 7, 9));
+        assertEquals("0B", RainbirdSipCodec.hex(0x0B));
+    }
+
+    @Test
+    void encodesFieldsBigEndianAndTruncatesToWidth() {
+        assertEquals("200081", RainbirdSipCodec.encode(0x20, new int[] { 2 }, 0x81, 0));
+        assertEquals("39000A1E", RainbirdSipCodec.encode(0x39, new int[] { 2, 1 }, 10, 30));
+        assertEquals("39FFFFFF", RainbirdSipCodec.encode(0x39, new int[] { 2, 1 }, 0x1FFFF, 0x1FF));
+    }
+
+    @Test
+    void matchesFormattedHexForEveryByte() {
+        for (int value = 0; value < 256; value++) {
+            String expected = String.format("38%02X", Integer.valueOf(value));
+            assertEquals(expected, RainbirdSipCodec.encode(0x38, new int[] { 1 }, value, 0));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.openhab.binding.rainbird.internal.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests field access on decoded tunnel responses.
+ */
+class RainbirdSipFrameTest {
+
+    @Test
+    void readsBytesWordsAndNibbles() throws IOException {
+        RainbirdSipFrame frame = RainbirdSipFrame.parse("CC0A1E200977E80000000200FA001405");
+        assertEquals(16, frame.length());
+        assertEquals(0xCC, frame.opcode());
+        assertEquals(10, frame.u8(1));
+        assertEquals(0x0002, frame.u16(9));
+        assertEquals(7, frame.nibble(10));
+        assertEquals(0x7E8, (frame.nibble(11) << 8) | frame.u8(6));
+        assertEquals(0x1405, frame.u16(14));
+    }
+
+    @Test
+    void acceptsLowerCaseAndKeepsTrailingNibble() throws IOException {
+        RainbirdSipFrame frame = RainbirdSipFrame.parse("8b0a1");
+        assertEquals(2, frame.length());
+        assertEquals(0x8B, frame.opcode());
+        assertEquals(1, frame.nibble(4));
+        assertEquals("8b0a1", frame.toString());
+    }
+
+    @Test
+    void rejectsOutOfBoundsAndInvalidDigits() throws IOException {
+        RainbirdSipFrame frame = RainbirdSipFrame.parse("0131");
+        assertThrows(IOException.class, () -> frame.u8(2));
+        assertThrows(IOException.class, () -> frame.u16(1));
+        assertThrows(IOException.class, () -> frame.nibble(4));
+        assertThrows(IOException.class, () -> RainbirdSipFrame.parse("01G1"));
+    }
+}